@@ -0,0 +1,58 @@
+package ua.bookstore.online.cache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.event.BookDeletedEvent;
+import ua.bookstore.online.event.BookSavedEvent;
+import ua.bookstore.online.event.BooksImportedEvent;
+import ua.bookstore.online.repository.book.BookSearchPageKey;
+
+@Component
+@RequiredArgsConstructor
+public class BookSearchCache {
+    private final ExpiringCache<BookSearchPageKey, List<BookDto>> bookSearchResultCache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public List<BookDto> getPage(BookSearchParameters parameters, Pageable pageable,
+            Supplier<List<BookDto>> loader) {
+        BookSearchPageKey key = BookSearchPageKey.of(parameters, pageable);
+        Optional<List<BookDto>> cached = bookSearchResultCache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long loadedGeneration = generation.get();
+        List<BookDto> books = loader.get();
+        if (generation.get() == loadedGeneration) {
+            bookSearchResultCache.put(key, books);
+        }
+        return books;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        invalidateAll();
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        bookSearchResultCache.invalidateAll();
+    }
+}
@@ -0,0 +1,258 @@
+package ua.bookstore.online.cache;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
+import ua.bookstore.online.dto.category.CategoryResponseDto;
+
+public final class CatalogSnapshot {
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String PRICE = "price";
+    private static final String NAME = "name";
+    private static final List<Sort> BOOK_ORDERS = List.of(
+            Sort.by(ID), Sort.by(TITLE), Sort.by(PRICE, TITLE, ID));
+    private static final List<Sort> CATEGORY_ORDERS = List.of(Sort.by(ID), Sort.by(NAME));
+    private static final Map<String, Function<BookDto, Object>> BOOK_SORT_KEYS = Map.of(
+            ID, BookDto::id,
+            TITLE, BookDto::title,
+            "author", BookDto::author,
+            "isbn", BookDto::isbn,
+            PRICE, BookDto::price,
+            "description", BookDto::description,
+            "coverImage", BookDto::coverImage);
+    private static final Map<String, Function<CategoryResponseDto, Object>> CATEGORY_SORT_KEYS =
+            Map.of(
+                    ID, CategoryResponseDto::id,
+                    NAME, CategoryResponseDto::name,
+                    "description", CategoryResponseDto::description);
+    private final long[] bookIds;
+    private final BookDto[] books;
+    private final long[] categoryIds;
+    private final CategoryResponseDto[] categories;
+    private final long version;
+    private final Map<Sort, int[]> bookOrders;
+    private final Map<Sort, int[][]> categoryBookOrders;
+    private final Map<Sort, int[]> categoryOrders;
+
+    private CatalogSnapshot(TreeMap<Long, BookDto> books,
+            TreeMap<Long, CategoryResponseDto> categories, long version) {
+        this.bookIds = books.keySet().stream()
+                            .mapToLong(Long::longValue)
+                            .toArray();
+        this.books = books.values().toArray(BookDto[]::new);
+        this.categoryIds = categories.keySet().stream()
+                                     .mapToLong(Long::longValue)
+                                     .toArray();
+        this.categories = categories.values().toArray(CategoryResponseDto[]::new);
+        this.version = version;
+        this.bookOrders = sortPositions(this.books, BOOK_ORDERS, BOOK_SORT_KEYS);
+        this.categoryBookOrders = new HashMap<>();
+        bookOrders.forEach((sort, order) -> categoryBookOrders.put(sort,
+                groupBooksByCategory(order)));
+        this.categoryOrders = sortPositions(this.categories, CATEGORY_ORDERS,
+                CATEGORY_SORT_KEYS);
+    }
+
+    public static Builder builder() {
+        return new Builder(new TreeMap<>(), new TreeMap<>(), 0);
+    }
+
+    public Builder toBuilder() {
+        Builder builder = new Builder(new TreeMap<>(), new TreeMap<>(), version + 1);
+        for (int i = 0; i < books.length; i++) {
+            builder.books.put(bookIds[i], books[i]);
+        }
+        for (int i = 0; i < categories.length; i++) {
+            builder.categories.put(categoryIds[i], categories[i]);
+        }
+        return builder;
+    }
+
+    public int getBookCount() {
+        return books.length;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Optional<BookDto> findBook(long id) {
+        int position = Arrays.binarySearch(bookIds, id);
+        return position < 0 ? Optional.empty() : Optional.of(books[position]);
+    }
+
+    public Optional<CategoryResponseDto> findCategory(long id) {
+        int position = Arrays.binarySearch(categoryIds, id);
+        return position < 0 ? Optional.empty() : Optional.of(categories[position]);
+    }
+
+    public Optional<List<BookDto>> findBooks(Pageable pageable) {
+        return Optional.ofNullable(bookOrders.get(toOrderKey(pageable.getSort())))
+                       .map(order -> getPage(order, pageable, position -> books[position]));
+    }
+
+    public Optional<List<BookDtoWithoutCategoryIds>> findBooksByCategory(long categoryId,
+            Pageable pageable) {
+        return Optional.ofNullable(categoryBookOrders.get(toOrderKey(pageable.getSort())))
+                       .map(grouped -> getPage(getBooksOfCategory(grouped, categoryId),
+                               pageable, position -> toDtoWithoutCategoryIds(books[position])));
+    }
+
+    public Optional<List<CategoryResponseDto>> findCategories(Pageable pageable) {
+        return Optional.ofNullable(categoryOrders.get(toOrderKey(pageable.getSort())))
+                       .map(order -> getPage(order, pageable,
+                               position -> categories[position]));
+    }
+
+    private int[] getBooksOfCategory(int[][] grouped, long categoryId) {
+        int position = Arrays.binarySearch(categoryIds, categoryId);
+        return position < 0 ? new int[0] : grouped[position];
+    }
+
+    private <T> List<T> getPage(int[] order, Pageable pageable, IntFunction<T> mapper) {
+        return getPage(order.length, pageable, i -> mapper.apply(order[i]));
+    }
+
+    private <T> List<T> getPage(int size, Pageable pageable, IntFunction<T> mapper) {
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), size) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), size) : size;
+        List<T> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(mapper.apply(i));
+        }
+        return page;
+    }
+
+    private int[][] groupBooksByCategory(int[] order) {
+        int[] counts = new int[categoryIds.length];
+        for (BookDto book : books) {
+            forEachCategory(book, position -> counts[position]++);
+        }
+        int[][] grouped = new int[categoryIds.length][];
+        for (int i = 0; i < grouped.length; i++) {
+            grouped[i] = new int[counts[i]];
+        }
+        int[] filled = new int[categoryIds.length];
+        for (int bookPosition : order) {
+            forEachCategory(books[bookPosition],
+                    position -> grouped[position][filled[position]++] = bookPosition);
+        }
+        return grouped;
+    }
+
+    private void forEachCategory(BookDto book, IntConsumer consumer) {
+        if (book.categoryIds() == null) {
+            return;
+        }
+        for (Long categoryId : book.categoryIds()) {
+            int position = Arrays.binarySearch(categoryIds, categoryId);
+            if (position >= 0) {
+                consumer.accept(position);
+            }
+        }
+    }
+
+    private static BookDtoWithoutCategoryIds toDtoWithoutCategoryIds(BookDto book) {
+        return new BookDtoWithoutCategoryIds(book.id(), book.title(), book.author(),
+                book.isbn(), book.price(), book.description(), book.coverImage());
+    }
+
+    private static Sort toOrderKey(Sort sort) {
+        return sort.isUnsorted() ? Sort.by(ID) : sort;
+    }
+
+    private static <T> Map<Sort, int[]> sortPositions(T[] items, List<Sort> sorts,
+            Map<String, Function<T, Object>> sortKeys) {
+        Map<Sort, int[]> orders = new HashMap<>();
+        for (Sort sort : sorts) {
+            Comparator<T> comparator = toComparator(sort, sortKeys).orElseThrow();
+            Comparator<Integer> byItem = Comparator.comparing(position -> items[position],
+                    comparator);
+            orders.put(sort, IntStream.range(0, items.length)
+                                      .boxed()
+                                      .sorted(byItem)
+                                      .mapToInt(Integer::intValue)
+                                      .toArray());
+        }
+        return orders;
+    }
+
+    private static <T> Optional<Comparator<T>> toComparator(Sort sort,
+            Map<String, Function<T, Object>> sortKeys) {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        Comparator<Object> values = Comparator.nullsFirst((first, second) -> compare(collator,
+                first, second));
+        Comparator<T> comparator = (first, second) -> 0;
+        for (Sort.Order order : sort) {
+            Function<T, Object> sortKey = sortKeys.get(order.getProperty());
+            if (sortKey == null || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                return Optional.empty();
+            }
+            Comparator<T> byKey = Comparator.comparing(sortKey, values);
+            comparator = comparator.thenComparing(order.isDescending() ? byKey.reversed() : byKey);
+        }
+        return Optional.of(comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Collator collator, Object first, Object second) {
+        if (first instanceof String firstString && second instanceof String secondString) {
+            return collator.compare(firstString, secondString);
+        }
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    public static final class Builder {
+        private final TreeMap<Long, BookDto> books;
+        private final TreeMap<Long, CategoryResponseDto> categories;
+        private final long version;
+
+        private Builder(TreeMap<Long, BookDto> books,
+                TreeMap<Long, CategoryResponseDto> categories, long version) {
+            this.books = books;
+            this.categories = categories;
+            this.version = version;
+        }
+
+        public Builder saveBook(BookDto book) {
+            books.put(book.id(), book);
+            return this;
+        }
+
+        public Builder removeBook(Long id) {
+            books.remove(id);
+            return this;
+        }
+
+        public Builder saveCategory(CategoryResponseDto category) {
+            categories.put(category.id(), category);
+            return this;
+        }
+
+        public Builder removeCategory(Long id) {
+            categories.remove(id);
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            return new CatalogSnapshot(books, categories, version);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package ua.bookstore.online.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.bookstore.online.event.BookDeletedEvent;
+import ua.bookstore.online.event.BookSavedEvent;
+import ua.bookstore.online.event.BooksImportedEvent;
+import ua.bookstore.online.event.CategoryDeletedEvent;
+import ua.bookstore.online.event.CategorySavedEvent;
+import ua.bookstore.online.mapper.BookMapper;
+import ua.bookstore.online.mapper.CategoryMapper;
+import ua.bookstore.online.model.Book;
+import ua.bookstore.online.repository.book.BookRepository;
+import ua.bookstore.online.repository.category.CategoryRepository;
+
+@Slf4j
+@Component
+public class CatalogSnapshotHolder {
+    private static final String ID = "id";
+    private static final Sort ID_SORT = Sort.by(ID);
+    private static final String APPLIER_NAME = "catalog-snapshot-";
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final BookMapper bookMapper;
+    private final CategoryMapper categoryMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Executor applier;
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final Queue<Consumer<CatalogSnapshot.Builder>> pendingChanges =
+            new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean applyScheduled = new AtomicBoolean();
+
+    @Autowired
+    public CatalogSnapshotHolder(
+            BookRepository bookRepository,
+            CategoryRepository categoryRepository,
+            BookMapper bookMapper,
+            CategoryMapper categoryMapper,
+            @Value("${book.catalog.snapshot.enabled:false}") boolean enabled,
+            @Value("${book.index.batch-size:1000}") int batchSize
+    ) {
+        this(bookRepository, categoryRepository, bookMapper, categoryMapper, enabled, batchSize,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory(APPLIER_NAME)));
+    }
+
+    CatalogSnapshotHolder(
+            BookRepository bookRepository,
+            CategoryRepository categoryRepository,
+            BookMapper bookMapper,
+            CategoryMapper categoryMapper,
+            boolean enabled,
+            int batchSize,
+            Executor applier
+    ) {
+        this.bookRepository = bookRepository;
+        this.categoryRepository = categoryRepository;
+        this.bookMapper = bookMapper;
+        this.categoryMapper = categoryMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.applier = applier;
+    }
+
+    public Optional<CatalogSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        CatalogSnapshot.Builder builder = CatalogSnapshot.builder();
+        categoryRepository.findAll().stream()
+                          .map(categoryMapper::toResponseDto)
+                          .forEach(builder::saveCategory);
+        Long lastId = 0L;
+        List<Long> ids;
+        do {
+            ids = bookRepository.findIds(idGreaterThan(lastId), ID_SORT, 0, batchSize);
+            if (!ids.isEmpty()) {
+                bookRepository.findAllWithCategoriesByIdIn(ids).stream()
+                              .map(bookMapper::toDto)
+                              .forEach(builder::saveBook);
+                lastId = ids.getLast();
+            }
+        } while (ids.size() == batchSize);
+        CatalogSnapshot loaded = builder.build();
+        snapshot.set(loaded);
+        log.info("Loaded catalog snapshot of {} books", loaded.getBookCount());
+        scheduleApply();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (applier instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        enqueue(builder -> builder.saveBook(event.book()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        enqueue(builder -> event.books().forEach(builder::saveBook));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        enqueue(builder -> builder.removeBook(event.id()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategorySaved(CategorySavedEvent event) {
+        enqueue(builder -> builder.saveCategory(event.category()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        enqueue(builder -> builder.removeCategory(event.id()));
+    }
+
+    private void enqueue(Consumer<CatalogSnapshot.Builder> change) {
+        if (enabled) {
+            pendingChanges.add(change);
+            scheduleApply();
+        }
+    }
+
+    private void scheduleApply() {
+        if (applyScheduled.compareAndSet(false, true)) {
+            applier.execute(this::applyPendingChanges);
+        }
+    }
+
+    private void applyPendingChanges() {
+        applyScheduled.set(false);
+        CatalogSnapshot current = snapshot.get();
+        if (current == null || pendingChanges.isEmpty()) {
+            return;
+        }
+        CatalogSnapshot.Builder builder = current.toBuilder();
+        Consumer<CatalogSnapshot.Builder> change;
+        while ((change = pendingChanges.poll()) != null) {
+            change.accept(builder);
+        }
+        snapshot.set(builder.build());
+    }
+
+    private Specification<Book> idGreaterThan(Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get(ID), id);
+    }
+}
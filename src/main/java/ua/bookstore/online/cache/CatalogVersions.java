@@ -0,0 +1,85 @@
+package ua.bookstore.online.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.bookstore.online.event.BookDeletedEvent;
+import ua.bookstore.online.event.BookSavedEvent;
+import ua.bookstore.online.event.BooksImportedEvent;
+import ua.bookstore.online.event.CategoryDeletedEvent;
+import ua.bookstore.online.event.CategorySavedEvent;
+import ua.bookstore.online.repository.TableVersion;
+import ua.bookstore.online.repository.book.BookRepository;
+import ua.bookstore.online.repository.category.CategoryRepository;
+
+/**
+ * Generations only count writes seen by this node, so the ETags also carry the row count and
+ * last modification of the tables, polled from the database, to change on writes made by
+ * other nodes as well.
+ */
+@Component
+public class CatalogVersions {
+    private final long epoch = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+    private final AtomicLong bookGeneration = new AtomicLong();
+    private final AtomicLong categoryGeneration = new AtomicLong();
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private volatile TableVersion bookTable = TableVersion.EMPTY;
+    private volatile TableVersion categoryTable = TableVersion.EMPTY;
+
+    public CatalogVersions(BookRepository bookRepository, CategoryRepository categoryRepository) {
+        this.bookRepository = bookRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    public String getBooksETag() {
+        return toETag('b', bookGeneration.get());
+    }
+
+    public String getCategoriesETag() {
+        return toETag('c', categoryGeneration.get());
+    }
+
+    public String getSnapshotETag(CatalogSnapshot snapshot) {
+        return toETag('s', snapshot.getVersion());
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.version.poll-interval-ms:5000}")
+    public void poll() {
+        bookTable = bookRepository.findTableVersion();
+        categoryTable = categoryRepository.findTableVersion();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        bookGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        bookGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        bookGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategorySaved(CategorySavedEvent event) {
+        categoryGeneration.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        categoryGeneration.incrementAndGet();
+        bookGeneration.incrementAndGet();
+    }
+
+    private String toETag(char kind, long generation) {
+        return "\"" + Long.toHexString(epoch) + '-' + kind + Long.toHexString(generation)
+                + '-' + bookTable.toHex() + '-' + categoryTable.toHex() + "\"";
+    }
+}
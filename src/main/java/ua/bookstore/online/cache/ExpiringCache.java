@@ -0,0 +1,150 @@
+package ua.bookstore.online.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import ua.bookstore.online.dto.cache.CacheStatsDto;
+
+public class ExpiringCache<K, V> {
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public ExpiringCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, Clock.systemUTC());
+    }
+
+    public ExpiringCache(String name, int maxSize, Duration ttl, Clock clock) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.value());
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long loadedGeneration = generation.get();
+        long start = System.nanoTime();
+        V value = loader.apply(key);
+        loadNanos.add(System.nanoTime() - start);
+        loads.increment();
+        Entry<V> entry = new Entry<>(value, clock.millis() + ttlMillis,
+                sequence.incrementAndGet());
+        put(key, entry);
+        if (generation.get() != loadedGeneration) {
+            entries.remove(key, entry);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, new Entry<>(value, clock.millis() + ttlMillis, sequence.incrementAndGet()));
+    }
+
+    public void put(K key, V value, Instant expiresAt) {
+        put(key, new Entry<>(value, Math.min(clock.millis() + ttlMillis,
+                expiresAt.toEpochMilli()), sequence.incrementAndGet()));
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStatsDto getStats() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        long loadCount = loads.sum();
+        return new CacheStatsDto(name, entries.size(), maxSize, hitCount, misses.sum(),
+                evictions.sum(), lookups == 0 ? 0 : (double) hitCount / lookups, loadCount,
+                loadCount == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loadCount);
+    }
+
+    private void put(K key, Entry<V> entry) {
+        entries.put(key, entry);
+        if (entries.size() > maxSize && evictionLock.tryLock()) {
+            try {
+                evict();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evict() {
+        long now = clock.millis();
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAt() <= now && entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        });
+        int excess = entries.size() - (maxSize - maxSize / EVICTION_BATCH_DIVISOR);
+        if (excess <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+               .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(Entry<V>::expiresAt)
+                       .thenComparingLong(Entry::sequence)))
+               .limit(excess)
+               .forEach(eldest -> {
+                   if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                       evictions.increment();
+                   }
+               });
+    }
+
+    private record Entry<V>(V value, long expiresAt, long sequence) {
+    }
+}
@@ -0,0 +1,48 @@
+package ua.bookstore.online.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.model.User;
+import ua.bookstore.online.repository.book.BookSearchKey;
+import ua.bookstore.online.repository.book.BookSearchPageKey;
+import ua.bookstore.online.security.VerifiedToken;
+
+@Configuration
+public class CacheConfig {
+    @Bean
+    public ExpiringCache<BookSearchKey, Long> bookSearchCountCache(
+            @Value("${book.search.count-cache.max-size:10000}") int maxSize,
+            @Value("${book.search.count-cache.ttl:30s}") Duration ttl
+    ) {
+        return new ExpiringCache<>("bookSearchCount", maxSize, ttl);
+    }
+
+    @Bean
+    public ExpiringCache<BookSearchPageKey, List<BookDto>> bookSearchResultCache(
+            @Value("${book.search.result-cache.max-size:1000}") int maxSize,
+            @Value("${book.search.result-cache.ttl:60s}") Duration ttl
+    ) {
+        return new ExpiringCache<>("bookSearchResult", maxSize, ttl);
+    }
+
+    @Bean
+    public ExpiringCache<String, VerifiedToken> verifiedTokenCache(
+            @Value("${jwt.verified-cache.max-size:10000}") int maxSize,
+            @Value("${jwt.verified-cache.ttl:5m}") Duration ttl
+    ) {
+        return new ExpiringCache<>("verifiedToken", maxSize, ttl);
+    }
+
+    @Bean
+    public ExpiringCache<String, User> userDetailsCache(
+            @Value("${security.user-cache.max-size:10000}") int maxSize,
+            @Value("${security.user-cache.ttl:5m}") Duration ttl
+    ) {
+        return new ExpiringCache<>("userDetails", maxSize, ttl);
+    }
+}
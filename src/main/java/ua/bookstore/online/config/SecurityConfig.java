@@ -4,7 +4,9 @@ import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 import ua.bookstore.online.exception.ExceptionHandlerFilter;
+import ua.bookstore.online.security.BoundedPasswordEncoder;
 import ua.bookstore.online.security.JwtAuthenticationFilter;
 
 @EnableMethodSecurity
@@ -37,8 +40,14 @@ public class SecurityConfig {
     private final ExceptionHandlerFilter handlerFilter;
 
     @Bean
-    public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder getPasswordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hashing-threads:4}") int threads,
+            @Value("${security.password.queued-per-thread:2}") int queuedPerThread,
+            @Value("${security.password.hashing-timeout:2s}") Duration timeout
+    ) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads,
+                threads * queuedPerThread, timeout);
     }
 
     @Bean
@@ -54,6 +63,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(
                         auth -> auth
+                                .requestMatchers("/auth/logout")
+                                .authenticated()
                                 .requestMatchers(
                                         "/auth/**",
                                         "/error",
@@ -0,0 +1,98 @@
+package ua.bookstore.online.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import ua.bookstore.online.dto.cache.CacheStatsDto;
+import ua.bookstore.online.dto.search.SearchQueryStatsDto;
+import ua.bookstore.online.security.AuthenticationService;
+import ua.bookstore.online.service.CacheService;
+import ua.bookstore.online.service.SearchStatsService;
+
+@Tag(name = "Administration",
+        description = "Endpoints for monitoring the application and managing user sessions")
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    private static final int MAX_SEARCH_QUERIES = 100;
+    private final CacheService cacheService;
+    private final SearchStatsService searchStatsService;
+    private final AuthenticationService authenticationService;
+
+    @GetMapping("/caches")
+    @PreAuthorize("hasRole('MANAGER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return cache statistics",
+            description = "Return size, hits, misses and evictions of every application cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "403", description = "Not enough access rights",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public List<CacheStatsDto> getCacheStats() {
+        return cacheService.getStats();
+    }
+
+    @GetMapping("/search-queries")
+    @PreAuthorize("hasRole('MANAGER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return the slowest book search queries",
+            description = "Return latency percentiles and row counts per combination of search "
+                    + "parameters, the most time consuming first, with the SQL and EXPLAIN "
+                    + "output captured once a combination exceeds the slow query threshold")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "403", description = "Not enough access rights",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public List<SearchQueryStatsDto> getSlowestSearchQueries(
+            @RequestParam(defaultValue = "10") @Positive @Max(MAX_SEARCH_QUERIES)
+            @Parameter(description = "Maximal count of query signatures") int limit
+    ) {
+        return searchStatsService.getSlowestQueries(limit);
+    }
+
+    @PostMapping("/users/{id}/logout")
+    @PreAuthorize("hasRole('MANAGER')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Log out a user everywhere",
+            description = "Revoke every access token issued to the user so far and all of the "
+                    + "user's refresh tokens")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Successfully logged out"),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "403", description = "Not enough access rights",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "404", description = "User with this id not exist",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public void logoutUser(@PathVariable @Parameter(description = "User ID") Long id) {
+        authenticationService.logoutUser(id);
+    }
+}
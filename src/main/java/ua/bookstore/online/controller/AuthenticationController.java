@@ -1,6 +1,7 @@
 package ua.bookstore.online.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,11 +11,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import ua.bookstore.online.dto.user.RefreshTokenRequestDto;
 import ua.bookstore.online.dto.user.UserLoginRequestDto;
 import ua.bookstore.online.dto.user.UserLoginResponseDto;
 import ua.bookstore.online.dto.user.UserRegistrationRequestDto;
@@ -60,4 +63,33 @@ public class AuthenticationController {
     public UserLoginResponseDto login(@RequestBody @Valid UserLoginRequestDto userRequestDto) {
         return authenticationService.authenticate(userRequestDto);
     }
+
+    @PostMapping("/refresh")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Refresh tokens",
+            description = "Exchange a refresh token for a new access and refresh token pair")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Successfully refreshed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401",
+                    description = "Unknown, expired, revoked or reused refresh token",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public UserLoginResponseDto refresh(@RequestBody @Valid RefreshTokenRequestDto requestDto) {
+        return authenticationService.refresh(requestDto);
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Logout user",
+            description = "Revoke the current access token and all refresh tokens of the user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "No content - successfully logout"),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public void logout(@Parameter(hidden = true) Authentication authentication) {
+        authenticationService.logout(authentication);
+    }
 }
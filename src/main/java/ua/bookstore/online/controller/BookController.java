@@ -8,13 +8,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,11 +33,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ua.bookstore.online.dto.book.BookBatchDto;
+import ua.bookstore.online.dto.book.BookBatchRequestDto;
+import ua.bookstore.online.dto.book.BookCursorPageDto;
 import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookExportFormat;
+import ua.bookstore.online.dto.book.BookFacetedSearchDto;
+import ua.bookstore.online.dto.book.BookImportResultDto;
+import ua.bookstore.online.dto.book.BookSearchResultDto;
+import ua.bookstore.online.dto.book.BookSuggestionDto;
 import ua.bookstore.online.dto.book.CreateBookRequestDto;
 import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.service.BookExportService;
+import ua.bookstore.online.service.BookImportService;
 import ua.bookstore.online.service.BookService;
 
 @Tag(name = "Book management", description = "Endpoints for managing books")
@@ -35,7 +58,13 @@ import ua.bookstore.online.service.BookService;
 @RestController
 @RequestMapping(value = "/books")
 public class BookController {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_RANKED_SIZE = 100;
+    private static final String EXPORT_FILE_NAME = "books.";
     private final BookService bookService;
+    private final BookExportService bookExportService;
+    private final BookImportService bookImportService;
 
     @PostMapping
     @PreAuthorize("hasRole('MANAGER')")
@@ -56,6 +85,24 @@ public class BookController {
         return bookService.save(bookDto);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Import books",
+            description = "Create books from a stream of book requests, one JSON per line. "
+                    + "Rejected lines are reported and do not stop the import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully imported"),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "403", description = "Not enough access rights",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public BookImportResultDto importBooks(@Parameter(hidden = true) InputStream inputStream)
+            throws IOException {
+        return bookImportService.importBooks(inputStream);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER')")
     @ResponseStatus(HttpStatus.ACCEPTED)
@@ -80,34 +127,109 @@ public class BookController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Return single book by id", description = "Return single book by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Required authorization",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "404", description = "Book with this id not exist",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
-    public BookDto getBookById(@PathVariable @Parameter(description = "Book ID") Long id) {
-        return bookService.getById(id);
+    public ResponseEntity<BookDto> getBookById(
+            @PathVariable @Parameter(description = "Book ID") Long id,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        String eTag = bookService.getETag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .body(bookService.getById(id));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('USER')")
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Return page of books",
             description = "Return page of books with pagination and sorting")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Required authorization",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
     })
-    public List<BookDto> getAll(
+    public ResponseEntity<List<BookDto>> getAll(
             @ParameterObject
-            @PageableDefault(sort = {"price", "title"}, value = 5) Pageable pageable
+            @PageableDefault(sort = {"price", "title"}, value = 5) Pageable pageable,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        String eTag = bookService.getCatalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .body(bookService.getAll(pageable));
+    }
+
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return books by ids",
+            description = "Return books in the order of the requested ids and the ids "
+                    + "without a book")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Too many ids",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public BookBatchDto getByIds(
+            @RequestParam @Size(min = 1, max = BookBatchRequestDto.MAX_IDS)
+            @Parameter(description = "Book IDs", example = "1,2,3") List<Long> ids
+    ) {
+        return bookService.getByIds(ids);
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return books by long list of ids",
+            description = "Return books in the order of the requested ids and the ids "
+                    + "without a book")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public BookBatchDto getByIds(@RequestBody @Valid BookBatchRequestDto requestDto) {
+        return bookService.getByIds(requestDto.ids());
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return page of books by cursor",
+            description = "Return page of books sorted by price, title and id, "
+                    + "starting after the cursor from the previous page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public BookCursorPageDto getAllByCursor(
+            @RequestParam(required = false)
+            @Parameter(description = "Cursor from the previous page") String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(MAX_CURSOR_PAGE_SIZE)
+            @Parameter(description = "Page size") int size
     ) {
-        return bookService.getAll(pageable);
+        return bookService.getAllByCursor(cursor, size);
     }
 
     @GetMapping("/search")
@@ -129,6 +251,147 @@ public class BookController {
         return bookService.getByParameters(bookSearchParameters, pageable);
     }
 
+    @GetMapping("/search/facets")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return filtered page of books with facets",
+            description = "Return filtered page of books with pagination and sorting "
+                    + "and counts of all matched books per category and price bucket. "
+                    + "Parameters: title, author, isbn, price")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public BookFacetedSearchDto searchBooksWithFacets(
+            @ParameterObject
+            @PageableDefault(sort = {"price", "title"}, value = 5) Pageable pageable,
+            BookSearchParameters bookSearchParameters
+    ) {
+        return bookService.getByParametersWithFacets(bookSearchParameters, pageable);
+    }
+
+    @GetMapping("/search/slice")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return filtered slice of books",
+            description = "Return filtered page of books with pagination and sorting "
+                    + "and a flag whether the next page exists, without counting all matches. "
+                    + "Parameters: title, author, isbn, price")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public BookSearchResultDto searchBooksSlice(
+            @ParameterObject
+            @PageableDefault(sort = {"price", "title"}, value = 5) Pageable pageable,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Include estimated total of matched books")
+            boolean withTotal,
+            BookSearchParameters bookSearchParameters
+    ) {
+        return bookService.getSliceByParameters(bookSearchParameters, pageable, withTotal);
+    }
+
+    @GetMapping("/search/cursor")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return filtered page of books by cursor",
+            description = "Return filtered page of books sorted by price, title and id, "
+                    + "starting after the cursor from the previous page. "
+                    + "Parameters: title, author, isbn, price")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public BookCursorPageDto searchBooksByCursor(
+            @RequestParam(required = false)
+            @Parameter(description = "Cursor from the previous page") String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(MAX_CURSOR_PAGE_SIZE)
+            @Parameter(description = "Page size") int size,
+            BookSearchParameters bookSearchParameters
+    ) {
+        return bookService.getByParametersByCursor(bookSearchParameters, cursor, size);
+    }
+
+    @GetMapping("/search/ranked")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return books ranked by relevance",
+            description = "Return the books best matching the query by title, author, "
+                    + "description and category names, the most relevant first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid query or size",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "503", description = "Search index is not ready yet",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public List<BookDto> searchBooksRanked(
+            @RequestParam @NotBlank
+            @Parameter(description = "Words to look for") String query,
+            @RequestParam(defaultValue = "10") @Positive @Max(MAX_RANKED_SIZE)
+            @Parameter(description = "Maximal count of books") int size
+    ) {
+        return bookService.getRanked(query, size);
+    }
+
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('USER')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Return title and author completions",
+            description = "Return titles and authors having a word starting with the prefix, "
+                    + "the most frequent first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid prefix or limit",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    public List<BookSuggestionDto> suggest(
+            @RequestParam @NotBlank
+            @Parameter(description = "Beginning of a title or author word") String prefix,
+            @RequestParam(defaultValue = "5") @Positive @Max(MAX_SUGGESTIONS)
+            @Parameter(description = "Maximal count of completions") int limit
+    ) {
+        return bookService.suggest(prefix, limit);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Export all books",
+            description = "Stream every book with its category ids as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully exported"),
+            @ApiResponse(responseCode = "400", description = "Unknown export format",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "401", description = "Required authorization",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "403", description = "Not enough access rights",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestParam(defaultValue = "NDJSON")
+            @Parameter(description = "Export format") BookExportFormat format
+    ) {
+        return ResponseEntity.ok()
+                             .contentType(MediaType.parseMediaType(format.getMediaType()))
+                             .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition
+                                     .attachment()
+                                     .filename(EXPORT_FILE_NAME + format.getExtension())
+                                     .build()
+                                     .toString())
+                             .body(outputStream -> bookExportService.export(format,
+                                     outputStream));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER')")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -15,7 +15,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -29,6 +28,7 @@ import ua.bookstore.online.dto.order.OrderRequestDto;
 import ua.bookstore.online.dto.order.OrderResponseDto;
 import ua.bookstore.online.dto.order.StatusDto;
 import ua.bookstore.online.model.User;
+import ua.bookstore.online.security.CurrentUser;
 import ua.bookstore.online.service.OrderService;
 
 @Tag(name = "Orders management", description = "Endpoints for managing orders")
@@ -51,7 +51,7 @@ public class OrderController {
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
     public OrderResponseDto createOrder(@RequestBody @Valid OrderRequestDto requestDto,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return orderService.saveOrder(requestDto, user);
     }
 
@@ -65,7 +65,7 @@ public class OrderController {
             @ApiResponse(responseCode = "401", description = "Required authorization",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
-    public List<OrderResponseDto> getOrderHistory(@AuthenticationPrincipal User user,
+    public List<OrderResponseDto> getOrderHistory(@CurrentUser User user,
             @ParameterObject @PageableDefault(sort = "orderDate", value = 5) Pageable pageable
     ) {
         return orderService.getAllOrders(user, pageable);
@@ -100,7 +100,7 @@ public class OrderController {
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
     public List<OrderItemResponseDto> getAllOrderItems(@PathVariable Long orderId,
-            @AuthenticationPrincipal User user,
+            @CurrentUser User user,
             @ParameterObject @PageableDefault(sort = "id", value = 5) Pageable pageable
     ) {
         return orderService.getAllCartItems(orderId, user, pageable);
@@ -117,7 +117,7 @@ public class OrderController {
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
     public OrderItemResponseDto getOrderItem(@PathVariable Long id, @PathVariable Long orderId,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return orderService.getCartItem(id, orderId, user);
     }
 }
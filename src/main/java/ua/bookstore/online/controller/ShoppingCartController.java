@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,6 +24,7 @@ import ua.bookstore.online.dto.shopping.cart.CartItemResponseDto;
 import ua.bookstore.online.dto.shopping.cart.QuantityDto;
 import ua.bookstore.online.dto.shopping.cart.ShoppingCartDto;
 import ua.bookstore.online.model.User;
+import ua.bookstore.online.security.CurrentUser;
 import ua.bookstore.online.service.ShoppingCartService;
 
 @Tag(name = "Shopping cart management", description = "Endpoints for managing shopping cart")
@@ -44,7 +44,7 @@ public class ShoppingCartController {
             @ApiResponse(responseCode = "401", description = "Required authorization",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
-    public ShoppingCartDto getShoppingCart(@AuthenticationPrincipal User user) {
+    public ShoppingCartDto getShoppingCart(@CurrentUser User user) {
         return shoppingCartService.getShoppingCartWithCartItems(user);
     }
 
@@ -61,7 +61,7 @@ public class ShoppingCartController {
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
     public CartItemResponseDto addCartItem(@RequestBody CartItemRequestDto requestDto,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return shoppingCartService.addCartItem(requestDto, user);
     }
 
@@ -78,7 +78,7 @@ public class ShoppingCartController {
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
     public QuantityDto updateCartItem(@PathVariable Long cartItemId,
-            @RequestBody QuantityDto quantityDto, @AuthenticationPrincipal User user) {
+            @RequestBody QuantityDto quantityDto, @CurrentUser User user) {
         return shoppingCartService.updateCartItem(cartItemId, quantityDto, user);
     }
 
@@ -94,7 +94,7 @@ public class ShoppingCartController {
             @ApiResponse(responseCode = "404", description = "Not found - wrong id",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
-    public void deleteCartItem(@PathVariable Long cartItemId, @AuthenticationPrincipal User user) {
+    public void deleteCartItem(@PathVariable Long cartItemId, @CurrentUser User user) {
         shoppingCartService.removeCartItem(cartItemId, user);
     }
 }
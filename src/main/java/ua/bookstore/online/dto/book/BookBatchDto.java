@@ -0,0 +1,11 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record BookBatchDto(
+        List<BookDto> books,
+        @Schema(description = "Requested ids without a book", example = "[7]")
+        List<Long> missingIds
+) {
+}
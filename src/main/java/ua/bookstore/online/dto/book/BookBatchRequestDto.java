@@ -0,0 +1,16 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BookBatchRequestDto(
+        @Schema(example = "[1, 2, 3]")
+        @NotEmpty
+        @Size(max = MAX_IDS)
+        List<@NotNull Long> ids
+) {
+    public static final int MAX_IDS = 500;
+}
@@ -0,0 +1,12 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record BookCursorPageDto(
+        List<BookDto> books,
+        @Schema(description = "Token for the next page, absent on the last page",
+                example = "MTIuOTkKMQoxOTg0", nullable = true)
+        String nextCursor
+) {
+}
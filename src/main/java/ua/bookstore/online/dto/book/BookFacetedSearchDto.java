@@ -0,0 +1,12 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record BookFacetedSearchDto(
+        List<BookDto> books,
+        @Schema(description = "Counts of all matched books, absent while the search index "
+                + "is building", nullable = true)
+        BookFacetsDto facets
+) {
+}
@@ -0,0 +1,12 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+
+public record BookFacetsDto(
+        @Schema(description = "Count of matched books by category id", example = "{\"1\": 12}")
+        Map<Long, Long> categories,
+        List<PriceBucketDto> priceBuckets
+) {
+}
@@ -0,0 +1,13 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record BookImportErrorDto(
+        @Schema(description = "Line of the rejected book in the imported file", example = "17")
+        long line,
+        @Schema(example = "0-061-96436-0", nullable = true)
+        String isbn,
+        @Schema(example = "Non uniq ISBN: 0-061-96436-0")
+        String error
+) {
+}
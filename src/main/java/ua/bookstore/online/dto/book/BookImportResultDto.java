@@ -0,0 +1,11 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record BookImportResultDto(
+        @Schema(description = "Count of created books", example = "998")
+        int imported,
+        List<BookImportErrorDto> errors
+) {
+}
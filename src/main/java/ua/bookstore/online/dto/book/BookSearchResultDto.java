@@ -0,0 +1,14 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record BookSearchResultDto(
+        List<BookDto> books,
+        @Schema(description = "Whether the next page has books", example = "true")
+        boolean hasNext,
+        @Schema(description = "Total of matched books, may be a few seconds stale",
+                example = "128", nullable = true)
+        Long estimatedTotal
+) {
+}
@@ -0,0 +1,13 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record BookSuggestionDto(
+        @Schema(description = "Completed title or author", example = "George Orwell")
+        String text,
+        @Schema(description = "Field the completion comes from", example = "AUTHOR")
+        SuggestionType type,
+        @Schema(description = "Count of books with this title or author", example = "3")
+        int weight
+) {
+}
@@ -0,0 +1,16 @@
+package ua.bookstore.online.dto.book;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+public record PriceBucketDto(
+        @Schema(description = "Inclusive lower bound, absent for the first bucket",
+                example = "10", nullable = true)
+        BigDecimal from,
+        @Schema(description = "Exclusive upper bound, absent for the last bucket",
+                example = "20", nullable = true)
+        BigDecimal to,
+        @Schema(description = "Count of matched books in the bucket", example = "7")
+        long count
+) {
+}
@@ -0,0 +1,6 @@
+package ua.bookstore.online.dto.book;
+
+public enum SuggestionType {
+    TITLE,
+    AUTHOR
+}
@@ -0,0 +1,26 @@
+package ua.bookstore.online.dto.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CacheStatsDto(
+        @Schema(description = "Cache name", example = "bookSearchResult")
+        String name,
+        @Schema(description = "Current count of entries", example = "812")
+        int size,
+        @Schema(description = "Maximal count of entries", example = "1000")
+        int maxSize,
+        @Schema(description = "Count of lookups served from the cache", example = "9120")
+        long hits,
+        @Schema(description = "Count of lookups not found in the cache", example = "880")
+        long misses,
+        @Schema(description = "Count of entries removed by size limit or expiration",
+                example = "64")
+        long evictions,
+        @Schema(description = "Share of lookups served from the cache", example = "0.912")
+        double hitRatio,
+        @Schema(description = "Count of values loaded on a miss", example = "880")
+        long loads,
+        @Schema(description = "Mean time of loading a value in milliseconds", example = "2.4")
+        double averageLoadMillis
+) {
+}
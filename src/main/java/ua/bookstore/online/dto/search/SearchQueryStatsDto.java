@@ -0,0 +1,33 @@
+package ua.bookstore.online.dto.search;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+
+public record SearchQueryStatsDto(
+        @Schema(description = "Combination of used search parameters and sort",
+                example = "titles+authors sort=title")
+        String signature,
+        @Schema(description = "Count of executed searches", example = "1520")
+        long count,
+        @Schema(description = "Total time spent in milliseconds", example = "30412.5")
+        double totalMillis,
+        @Schema(description = "Mean latency in milliseconds", example = "20.01")
+        double meanMillis,
+        @Schema(description = "Median latency in milliseconds", example = "10.0")
+        double p50Millis,
+        @Schema(description = "95th percentile of latency in milliseconds", example = "50.0")
+        double p95Millis,
+        @Schema(description = "99th percentile of latency in milliseconds", example = "100.0")
+        double p99Millis,
+        @Schema(description = "Maximal latency in milliseconds", example = "412.3")
+        double maxMillis,
+        @Schema(description = "Mean count of returned rows", example = "18.4")
+        double meanRows,
+        @Schema(description = "SQL captured after the first search above the threshold",
+                nullable = true)
+        String sql,
+        @Schema(description = "MySQL EXPLAIN output of the captured SQL", nullable = true)
+        List<Map<String, Object>> explain
+) {
+}
@@ -1,11 +1,11 @@
 package ua.bookstore.online.dto.search.parameters;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Arrays;
+import java.util.Locale;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor
 public final class BookSearchParameters extends AbstractSearchParameters {
     @Schema(description = "List of titles (can be only partial)", example = "book")
     private final String[] titles;
@@ -19,4 +19,32 @@ public final class BookSearchParameters extends AbstractSearchParameters {
     private final Long minPrice;
     @Schema(description = "Maximal price for filtering", example = "999999999.99")
     private final Long maxPrice;
+    @Schema(description = "Match books from any or from all of the given categories",
+            example = "ALL", defaultValue = "ANY")
+    private final CategoryMatch categoryMatch;
+    @Schema(description = "Also match titles and authors with up to two typos",
+            example = "true", defaultValue = "false")
+    private final Boolean fuzzy;
+
+    public BookSearchParameters(String[] titles, String[] categoryIds, String[] authors,
+            String[] isbns, Long minPrice, Long maxPrice, CategoryMatch categoryMatch,
+            Boolean fuzzy) {
+        this.titles = normalize(titles);
+        this.categoryIds = normalize(categoryIds);
+        this.authors = normalize(authors);
+        this.isbns = normalize(isbns);
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.categoryMatch = categoryMatch;
+        this.fuzzy = fuzzy;
+    }
+
+    private static String[] normalize(String[] terms) {
+        if (terms == null) {
+            return null;
+        }
+        return Arrays.stream(terms)
+                     .map(term -> term.trim().toLowerCase(Locale.ROOT))
+                     .toArray(String[]::new);
+    }
 }
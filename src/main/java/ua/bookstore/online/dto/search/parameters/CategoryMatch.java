@@ -0,0 +1,6 @@
+package ua.bookstore.online.dto.search.parameters;
+
+public enum CategoryMatch {
+    ANY,
+    ALL
+}
@@ -0,0 +1,6 @@
+package ua.bookstore.online.dto.user;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDto(@NotBlank String refreshToken) {
+}
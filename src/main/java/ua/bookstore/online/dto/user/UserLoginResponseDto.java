@@ -1,4 +1,4 @@
 package ua.bookstore.online.dto.user;
 
-public record UserLoginResponseDto(String token) {
+public record UserLoginResponseDto(String token, String refreshToken) {
 }
@@ -0,0 +1,6 @@
+package ua.bookstore.online.event;
+
+import ua.bookstore.online.dto.book.BookDto;
+
+public record BookSavedEvent(BookDto book) {
+}
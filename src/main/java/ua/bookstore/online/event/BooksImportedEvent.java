@@ -0,0 +1,7 @@
+package ua.bookstore.online.event;
+
+import java.util.List;
+import ua.bookstore.online.dto.book.BookDto;
+
+public record BooksImportedEvent(List<BookDto> books) {
+}
@@ -0,0 +1,4 @@
+package ua.bookstore.online.event;
+
+public record CategoryDeletedEvent(Long id) {
+}
@@ -0,0 +1,6 @@
+package ua.bookstore.online.event;
+
+import ua.bookstore.online.dto.category.CategoryResponseDto;
+
+public record CategorySavedEvent(CategoryResponseDto category) {
+}
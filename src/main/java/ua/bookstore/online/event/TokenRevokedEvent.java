@@ -0,0 +1,6 @@
+package ua.bookstore.online.event;
+
+import java.time.Instant;
+
+public record TokenRevokedEvent(String tokenId, Instant expiresAt) {
+}
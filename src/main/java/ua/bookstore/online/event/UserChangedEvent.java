@@ -0,0 +1,4 @@
+package ua.bookstore.online.event;
+
+public record UserChangedEvent(String email) {
+}
@@ -1,9 +1,12 @@
 package ua.bookstore.online.exception;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import io.jsonwebtoken.JwtException;
@@ -62,6 +65,27 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return getResponseEntity(CONFLICT, ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<Object> handleInvalidCursor(InvalidCursorException ex) {
+        return getResponseEntity(BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(SearchTooBroadException.class)
+    protected ResponseEntity<Object> handleSearchTooBroad(SearchTooBroadException ex) {
+        return getResponseEntity(BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(SearchIndexException.class)
+    protected ResponseEntity<Object> handleSearchIndex(SearchIndexException ex) {
+        return getResponseEntity(SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    protected ResponseEntity<Object> handlePasswordHashingRejected(
+            PasswordHashingRejectedException ex) {
+        return getResponseEntity(TOO_MANY_REQUESTS, ex.getMessage());
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     protected ResponseEntity<Object> handleNotFound(EntityNotFoundException ex) {
         return getResponseEntity(NOT_FOUND, ex.getMessage());
@@ -72,7 +96,8 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return getResponseEntity(FORBIDDEN, ex.getMessage());
     }
 
-    @ExceptionHandler({JwtException.class, AuthenticationException.class})
+    @ExceptionHandler({JwtException.class, AuthenticationException.class,
+            InvalidRefreshTokenException.class})
     protected ResponseEntity<Object> handleAuthenticationException(Exception ex) {
         return getResponseEntity(UNAUTHORIZED, ex.getMessage());
     }
@@ -0,0 +1,7 @@
+package ua.bookstore.online.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package ua.bookstore.online.exception;
+
+public class SearchIndexException extends RuntimeException {
+    public SearchIndexException(String message) {
+        super(message);
+    }
+
+    public SearchIndexException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package ua.bookstore.online.exception;
+
+public class SearchTooBroadException extends RuntimeException {
+    public SearchTooBroadException(String message) {
+        super(message);
+    }
+}
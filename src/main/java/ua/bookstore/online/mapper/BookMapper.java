@@ -7,7 +7,6 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import ua.bookstore.online.config.MapperConfig;
 import ua.bookstore.online.dto.book.BookDto;
-import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
 import ua.bookstore.online.dto.book.CreateBookRequestDto;
 import ua.bookstore.online.model.Book;
 import ua.bookstore.online.model.Category;
@@ -34,6 +33,4 @@ public interface BookMapper {
                           .map(Category::new)
                           .collect(Collectors.toSet());
     }
-
-    BookDtoWithoutCategoryIds toDtoWithoutCategories(Book book);
 }
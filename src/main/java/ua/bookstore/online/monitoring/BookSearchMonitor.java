@@ -0,0 +1,132 @@
+package ua.bookstore.online.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.search.SearchQueryStatsDto;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+import ua.bookstore.online.repository.book.BookSearchJdbcRepository;
+import ua.bookstore.online.repository.book.BookSearchPlan;
+
+@Slf4j
+@Component
+public class BookSearchMonitor {
+    private static final int MAX_SIGNATURES = 512;
+    private static final String NO_PARAMETERS = "none";
+    private final BookSearchJdbcRepository bookSearchJdbcRepository;
+    private final long thresholdNanos;
+    private final Map<String, SignatureStats> stats = new ConcurrentHashMap<>();
+
+    public BookSearchMonitor(
+            BookSearchJdbcRepository bookSearchJdbcRepository,
+            @Value("${book.search.slow-query.threshold-ms:500}") long thresholdMillis
+    ) {
+        this.bookSearchJdbcRepository = bookSearchJdbcRepository;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    public void record(BookSearchParameters parameters, Pageable pageable, long nanos,
+            int rows) {
+        String signature = getSignature(parameters, pageable.getSort());
+        SignatureStats signatureStats = stats.get(signature);
+        if (signatureStats == null) {
+            if (stats.size() >= MAX_SIGNATURES) {
+                return;
+            }
+            signatureStats = stats.computeIfAbsent(signature, key -> new SignatureStats());
+        }
+        signatureStats.latency.record(nanos);
+        signatureStats.rows.add(rows);
+        if (nanos >= thresholdNanos && signatureStats.explained.compareAndSet(false, true)) {
+            capturePlan(signature, signatureStats, parameters, pageable, nanos);
+        }
+    }
+
+    public List<SearchQueryStatsDto> getStats() {
+        List<SearchQueryStatsDto> result = new ArrayList<>(stats.size());
+        stats.forEach((signature, signatureStats) -> result.add(
+                signatureStats.toDto(signature)));
+        return result;
+    }
+
+    static String getSignature(BookSearchParameters parameters, Sort sort) {
+        List<String> parts = new ArrayList<>();
+        if (isPresent(parameters.getTitles())) {
+            parts.add("titles");
+        }
+        if (isPresent(parameters.getCategoryIds())) {
+            parts.add(parameters.getCategoryMatch() == CategoryMatch.ALL
+                    ? "allCategories" : "categories");
+        }
+        if (isPresent(parameters.getAuthors())) {
+            parts.add("authors");
+        }
+        if (isPresent(parameters.getIsbns())) {
+            parts.add("isbns");
+        }
+        if (parameters.getMinPrice() != null || parameters.getMaxPrice() != null) {
+            parts.add("price");
+        }
+        if (Boolean.TRUE.equals(parameters.getFuzzy())) {
+            parts.add("fuzzy");
+        }
+        String signature = parts.isEmpty() ? NO_PARAMETERS : String.join("+", parts);
+        if (sort.isUnsorted()) {
+            return signature;
+        }
+        return sort.stream()
+                   .map(order -> order.getProperty() + (order.isDescending() ? " desc" : ""))
+                   .collect(Collectors.joining(",", signature + " sort=", ""));
+    }
+
+    private void capturePlan(String signature, SignatureStats signatureStats,
+            BookSearchParameters parameters, Pageable pageable, long nanos) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        try {
+            bookSearchJdbcRepository.explainIds(parameters, pageable.getSort(), offset, limit)
+                    .ifPresent(plan -> {
+                        signatureStats.plan = plan;
+                        log.warn("Slow book search [{}] took {} ms, SQL: {}, EXPLAIN: {}",
+                                signature, TimeUnit.NANOSECONDS.toMillis(nanos), plan.sql(),
+                                plan.explain());
+                    });
+        } catch (DataAccessException e) {
+            log.warn("Can't explain slow book search [{}]", signature, e);
+        }
+    }
+
+    private static boolean isPresent(String[] values) {
+        return values != null && values.length > 0;
+    }
+
+    private static final class SignatureStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final AtomicBoolean explained = new AtomicBoolean();
+        private volatile BookSearchPlan plan;
+
+        private SearchQueryStatsDto toDto(String signature) {
+            long count = latency.getCount();
+            BookSearchPlan capturedPlan = plan;
+            return new SearchQueryStatsDto(signature, count, latency.getTotalMillis(),
+                    latency.getMeanMillis(), latency.getPercentileMillis(0.5),
+                    latency.getPercentileMillis(0.95), latency.getPercentileMillis(0.99),
+                    latency.getMaxMillis(), count == 0 ? 0 : (double) rows.sum() / count,
+                    capturedPlan == null ? null : capturedPlan.sql(),
+                    capturedPlan == null ? null : capturedPlan.explain());
+        }
+    }
+}
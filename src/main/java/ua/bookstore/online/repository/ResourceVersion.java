@@ -0,0 +1,14 @@
+package ua.bookstore.online.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+public record ResourceVersion(LocalDateTime lastModified) {
+    public String toETag() {
+        long modified = lastModified == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH,
+                lastModified.toInstant(ZoneOffset.UTC));
+        return "\"" + Long.toHexString(modified) + "\"";
+    }
+}
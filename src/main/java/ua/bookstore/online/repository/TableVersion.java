@@ -0,0 +1,16 @@
+package ua.bookstore.online.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+public record TableVersion(Long rows, LocalDateTime lastModified) {
+    public static final TableVersion EMPTY = new TableVersion(0L, null);
+
+    public String toHex() {
+        long modified = lastModified == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH,
+                lastModified.toInstant(ZoneOffset.UTC));
+        return Long.toHexString(rows) + '.' + Long.toHexString(modified);
+    }
+}
@@ -0,0 +1,39 @@
+package ua.bookstore.online.repository.book;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.exception.InvalidCursorException;
+import ua.bookstore.online.model.Book;
+
+public record BookCursor(BigDecimal price, String title, Long id) {
+    public static final Sort SORT = Sort.by("price", "title", "id");
+    private static final String DELIMITER = "\n";
+    private static final int PARTS = 3;
+
+    public static BookCursor of(Book book) {
+        return new BookCursor(book.getPrice(), book.getTitle(), book.getId());
+    }
+
+    public static BookCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, PARTS);
+            if (parts.length != PARTS) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new BookCursor(new BigDecimal(parts[0]), parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = price.toPlainString() + DELIMITER + id + DELIMITER + title;
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
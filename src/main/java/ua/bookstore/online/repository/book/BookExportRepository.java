@@ -0,0 +1,75 @@
+package ua.bookstore.online.repository.book;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import ua.bookstore.online.dto.book.BookDto;
+
+@Repository
+public class BookExportRepository {
+    private static final String EXPORT_QUERY = "SELECT b.id, b.title, b.author, b.isbn, b.price,"
+            + " b.description, b.cover_image, bc.category_id FROM books b"
+            + " LEFT JOIN books_categories bc ON bc.book_id = b.id"
+            + " WHERE b.is_deleted = FALSE ORDER BY b.id, bc.category_id";
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookExportRepository(DataSource dataSource,
+            @Value("${book.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void forEachBook(Consumer<BookDto> consumer) {
+        BookRowCallbackHandler handler = new BookRowCallbackHandler(consumer);
+        jdbcTemplate.query(EXPORT_QUERY, handler);
+        handler.complete();
+    }
+
+    private static final class BookRowCallbackHandler implements RowCallbackHandler {
+        private final Consumer<BookDto> consumer;
+        private BookDto.BookDtoBuilder current;
+        private Set<Long> categoryIds;
+        private long currentId;
+
+        private BookRowCallbackHandler(Consumer<BookDto> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            long id = resultSet.getLong("id");
+            if (current == null || id != currentId) {
+                complete();
+                currentId = id;
+                categoryIds = new LinkedHashSet<>();
+                current = BookDto.builder()
+                                 .id(id)
+                                 .title(resultSet.getString("title"))
+                                 .author(resultSet.getString("author"))
+                                 .isbn(resultSet.getString("isbn"))
+                                 .price(resultSet.getBigDecimal("price"))
+                                 .description(resultSet.getString("description"))
+                                 .coverImage(resultSet.getString("cover_image"))
+                                 .categoryIds(categoryIds);
+            }
+            long categoryId = resultSet.getLong("category_id");
+            if (!resultSet.wasNull()) {
+                categoryIds.add(categoryId);
+            }
+        }
+
+        private void complete() {
+            if (current != null) {
+                consumer.accept(current.build());
+                current = null;
+            }
+        }
+    }
+}
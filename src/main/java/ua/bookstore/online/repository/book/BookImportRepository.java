@@ -0,0 +1,79 @@
+package ua.bookstore.online.repository.book;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import ua.bookstore.online.dto.book.CreateBookRequestDto;
+
+@RequiredArgsConstructor
+@Repository
+public class BookImportRepository {
+    private static final String FIND_ISBNS_QUERY = "SELECT isbn FROM books WHERE isbn IN (%s)";
+    private static final String INSERT_BOOK_QUERY = "INSERT INTO books"
+            + " (title, author, isbn, price, description, cover_image)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CATEGORY_QUERY =
+            "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)";
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<String> findExistingIsbns(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(isbns.size(), "?"));
+        return jdbcTemplate.queryForList(FIND_ISBNS_QUERY.formatted(placeholders), String.class,
+                isbns.toArray());
+    }
+
+    public List<Long> saveAll(List<CreateBookRequestDto> books) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_BOOK_QUERY,
+                Statement.RETURN_GENERATED_KEYS), new BookStatementSetter(books), keyHolder);
+        List<Long> ids = keyHolder.getKeyList().stream()
+                                  .map(BookImportRepository::getId)
+                                  .toList();
+        List<Object[]> links = IntStream.range(0, ids.size())
+                .boxed()
+                .flatMap(i -> books.get(i).categoryIds().stream()
+                                   .map(categoryId -> new Object[]{ids.get(i), categoryId}))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_QUERY, links);
+        return ids;
+    }
+
+    private static Long getId(Map<String, Object> keys) {
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+
+    @RequiredArgsConstructor
+    private static final class BookStatementSetter implements BatchPreparedStatementSetter {
+        private final List<CreateBookRequestDto> books;
+
+        @Override
+        public void setValues(PreparedStatement statement, int i) throws SQLException {
+            CreateBookRequestDto book = books.get(i);
+            statement.setString(1, book.title());
+            statement.setString(2, book.author());
+            statement.setString(3, book.isbn());
+            statement.setBigDecimal(4, book.price());
+            statement.setString(5, book.description());
+            statement.setString(6, book.coverImage());
+        }
+
+        @Override
+        public int getBatchSize() {
+            return books.size();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package ua.bookstore.online.repository.book;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -9,9 +11,12 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
 import ua.bookstore.online.model.Book;
+import ua.bookstore.online.repository.TableVersion;
 
-public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
+        BookRepositoryCustom {
     Optional<Book> findByIsbn(String isbn);
 
     @Query("FROM Book b JOIN FETCH b.categories WHERE b.id = :id")
@@ -20,11 +25,23 @@ public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificat
     @EntityGraph(attributePaths = {"categories"})
     Page<Book> findAll(Specification<Book> specification, Pageable pageable);
 
-    @Query("FROM Book b JOIN FETCH b.categories")
-    List<Book> findAllBooks(Pageable pageable);
+    @Query("SELECT b.id FROM Book b")
+    List<Long> findAllIds(Pageable pageable);
 
-    @EntityGraph(attributePaths = {"categories"})
-    List<Book> findAllByCategories_Id(Long categoryId, Pageable pageable);
+    @Query("FROM Book b LEFT JOIN FETCH b.categories WHERE b.id IN :ids")
+    List<Book> findAllWithCategoriesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT b.updatedAt FROM Book b WHERE b.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    @Query("SELECT new ua.bookstore.online.repository.TableVersion(COUNT(b), MAX(b.updatedAt))"
+            + " FROM Book b")
+    TableVersion findTableVersion();
+
+    @Query("SELECT new ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds(b.id, b.title,"
+            + " b.author, b.isbn, b.price, b.description, b.coverImage)"
+            + " FROM Book b JOIN b.categories c WHERE c.id = :categoryId")
+    List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long categoryId, Pageable pageable);
 
     List<Book> findAllByIdOrIsbn(Long id, String isbn);
 }
@@ -0,0 +1,15 @@
+package ua.bookstore.online.repository.book;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ua.bookstore.online.model.Book;
+
+public interface BookRepositoryCustom {
+    List<Long> findIds(Specification<Book> specification, Pageable pageable);
+
+    List<Long> findIds(Specification<Book> specification, Sort sort, long offset, int limit);
+
+    long countIds(Specification<Book> specification);
+}
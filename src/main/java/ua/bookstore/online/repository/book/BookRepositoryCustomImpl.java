@@ -0,0 +1,80 @@
+package ua.bookstore.online.repository.book;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import ua.bookstore.online.model.Book;
+
+@RequiredArgsConstructor
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+    private static final String ID = "id";
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<Book> specification, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return getIdsQuery(specification, pageable.getSort()).getResultList().stream()
+                    .map(tuple -> tuple.get(0, Long.class))
+                    .toList();
+        }
+        return findIds(specification, pageable.getSort(), pageable.getOffset(),
+                pageable.getPageSize());
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Book> specification, Sort sort, long offset,
+            int limit) {
+        return getIdsQuery(specification, sort)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(tuple -> tuple.get(0, Long.class))
+                .toList();
+    }
+
+    @Override
+    public long countIds(Specification<Book> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Book> root = query.from(Book.class);
+        query.select(criteriaBuilder.countDistinct(root.get(ID)));
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private TypedQuery<Tuple> getIdsQuery(Specification<Book> specification, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Book> root = query.from(Book.class);
+
+        List<Order> orders = QueryUtils.toOrders(sort, root, criteriaBuilder);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(ID));
+        orders.forEach(order -> selections.add(order.getExpression()));
+        query.multiselect(selections)
+             .distinct(true)
+             .orderBy(orders);
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query);
+    }
+}
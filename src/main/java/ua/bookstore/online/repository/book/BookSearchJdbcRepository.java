@@ -0,0 +1,39 @@
+package ua.bookstore.online.repository.book;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+
+@RequiredArgsConstructor
+@Repository
+public class BookSearchJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final BookSearchQueryCompiler bookSearchQueryCompiler;
+
+    public Optional<List<Long>> findIds(BookSearchParameters parameters, Sort sort, long offset,
+            int limit) {
+        return bookSearchQueryCompiler.compileIdQuery(parameters, sort, offset, limit)
+                .map(query -> jdbcTemplate.queryForList(query.sql(), Long.class,
+                        query.arguments().toArray()));
+    }
+
+    public Optional<BookSearchPlan> explainIds(BookSearchParameters parameters, Sort sort,
+            long offset, int limit) {
+        return bookSearchQueryCompiler.compileIdQuery(parameters, sort, offset, limit)
+                .or(() -> bookSearchQueryCompiler.compileIdQuery(parameters, Sort.unsorted(),
+                        offset, limit))
+                .map(query -> new BookSearchPlan(query.sql(), jdbcTemplate.queryForList(
+                        "EXPLAIN " + query.sql(), query.arguments().toArray())));
+    }
+
+    public long countIds(BookSearchParameters parameters) {
+        BookSearchQuery query = bookSearchQueryCompiler.compileCountQuery(parameters);
+        Long count = jdbcTemplate.queryForObject(query.sql(), Long.class,
+                query.arguments().toArray());
+        return count == null ? 0 : count;
+    }
+}
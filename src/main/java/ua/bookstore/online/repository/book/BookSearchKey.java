@@ -0,0 +1,40 @@
+package ua.bookstore.online.repository.book;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+
+public record BookSearchKey(
+        List<String> titles,
+        List<String> categoryIds,
+        List<String> authors,
+        List<String> isbns,
+        Long minPrice,
+        Long maxPrice,
+        CategoryMatch categoryMatch,
+        boolean fuzzy
+) {
+    public static BookSearchKey of(BookSearchParameters parameters) {
+        return new BookSearchKey(
+                normalize(parameters.getTitles()),
+                normalize(parameters.getCategoryIds()),
+                normalize(parameters.getAuthors()),
+                normalize(parameters.getIsbns()),
+                parameters.getMinPrice(),
+                parameters.getMaxPrice(),
+                Optional.ofNullable(parameters.getCategoryMatch()).orElse(CategoryMatch.ANY),
+                Boolean.TRUE.equals(parameters.getFuzzy()));
+    }
+
+    private static List<String> normalize(String[] values) {
+        if (values == null) {
+            return List.of();
+        }
+        return Arrays.stream(values)
+                     .distinct()
+                     .sorted()
+                     .toList();
+    }
+}
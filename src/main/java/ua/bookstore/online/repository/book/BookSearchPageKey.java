@@ -0,0 +1,10 @@
+package ua.bookstore.online.repository.book;
+
+import org.springframework.data.domain.Pageable;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+
+public record BookSearchPageKey(BookSearchKey parameters, Pageable pageable) {
+    public static BookSearchPageKey of(BookSearchParameters parameters, Pageable pageable) {
+        return new BookSearchPageKey(BookSearchKey.of(parameters), pageable);
+    }
+}
@@ -0,0 +1,7 @@
+package ua.bookstore.online.repository.book;
+
+import java.util.List;
+import java.util.Map;
+
+public record BookSearchPlan(String sql, List<Map<String, Object>> explain) {
+}
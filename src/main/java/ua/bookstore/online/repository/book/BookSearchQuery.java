@@ -0,0 +1,6 @@
+package ua.bookstore.online.repository.book;
+
+import java.util.List;
+
+public record BookSearchQuery(String sql, List<Object> arguments) {
+}
@@ -0,0 +1,173 @@
+package ua.bookstore.online.repository.book;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+
+@Component
+public class BookSearchQueryCompiler {
+    private static final int MAX_TEMPLATES = 1024;
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "b.id",
+            "title", "b.title",
+            "author", "b.author",
+            "isbn", "b.isbn",
+            "price", "b.price",
+            "description", "b.description",
+            "coverImage", "b.cover_image");
+    private final Map<QueryShape, String> templates = new ConcurrentHashMap<>();
+
+    public Optional<BookSearchQuery> compileIdQuery(BookSearchParameters parameters, Sort sort,
+            long offset, int limit) {
+        if (!sort.stream().allMatch(this::isSupported)) {
+            return Optional.empty();
+        }
+        List<Object> arguments = bindFilters(parameters);
+        arguments.add(limit);
+        arguments.add(offset);
+        return Optional.of(new BookSearchQuery(getTemplate(QueryShape.of(parameters, sort)),
+                Collections.unmodifiableList(arguments)));
+    }
+
+    public BookSearchQuery compileCountQuery(BookSearchParameters parameters) {
+        return new BookSearchQuery(getTemplate(QueryShape.of(parameters, null)),
+                Collections.unmodifiableList(bindFilters(parameters)));
+    }
+
+    public int getTemplateCount() {
+        return templates.size();
+    }
+
+    private String getTemplate(QueryShape shape) {
+        String template = templates.get(shape);
+        if (template != null) {
+            return template;
+        }
+        template = shape.toSql();
+        if (templates.size() < MAX_TEMPLATES) {
+            String cached = templates.putIfAbsent(shape, template);
+            return cached == null ? template : cached;
+        }
+        return template;
+    }
+
+    private boolean isSupported(Sort.Order order) {
+        return SORT_COLUMNS.containsKey(order.getProperty())
+                && order.getNullHandling() == Sort.NullHandling.NATIVE;
+    }
+
+    private List<Object> bindFilters(BookSearchParameters parameters) {
+        List<Object> arguments = new ArrayList<>();
+        bindLike(arguments, parameters.getTitles());
+        List<Long> categoryIds = getCategoryIds(parameters);
+        arguments.addAll(categoryIds);
+        if (!categoryIds.isEmpty() && isAllCategories(parameters)) {
+            arguments.add(categoryIds.size());
+        }
+        bindLike(arguments, parameters.getAuthors());
+        bindLike(arguments, parameters.getIsbns());
+        if (hasPriceBounds(parameters)) {
+            arguments.add(BigDecimal.valueOf(
+                    Optional.ofNullable(parameters.getMinPrice()).orElse(0L)));
+            arguments.add(BigDecimal.valueOf(
+                    Optional.ofNullable(parameters.getMaxPrice()).orElse(Long.MAX_VALUE)));
+        }
+        return arguments;
+    }
+
+    private void bindLike(List<Object> arguments, String[] terms) {
+        if (terms != null) {
+            Arrays.stream(terms)
+                  .map(term -> '%' + term + '%')
+                  .forEach(arguments::add);
+        }
+    }
+
+    private static List<Long> getCategoryIds(BookSearchParameters parameters) {
+        String[] categoryIds = parameters.getCategoryIds();
+        return categoryIds == null ? List.of() : Arrays.stream(categoryIds)
+                                                       .map(Long::parseLong)
+                                                       .distinct()
+                                                       .toList();
+    }
+
+    private static boolean isAllCategories(BookSearchParameters parameters) {
+        return parameters.getCategoryMatch() == CategoryMatch.ALL;
+    }
+
+    private static boolean hasPriceBounds(BookSearchParameters parameters) {
+        return parameters.getMinPrice() != null || parameters.getMaxPrice() != null;
+    }
+
+    private static int length(String[] terms) {
+        return terms == null ? 0 : terms.length;
+    }
+
+    private record QueryShape(int titles, int categories, boolean allCategories, int authors,
+            int isbns, boolean price, Sort sort) {
+        static QueryShape of(BookSearchParameters parameters, Sort sort) {
+            int categories = getCategoryIds(parameters).size();
+            return new QueryShape(length(parameters.getTitles()), categories,
+                    categories > 0 && isAllCategories(parameters),
+                    length(parameters.getAuthors()), length(parameters.getIsbns()),
+                    hasPriceBounds(parameters), sort);
+        }
+
+        String toSql() {
+            StringBuilder sql = new StringBuilder(sort == null
+                    ? "SELECT COUNT(*) FROM books b" : "SELECT b.id FROM books b");
+            sql.append(" WHERE b.is_deleted = FALSE");
+            appendLike(sql, "b.title", titles);
+            if (categories > 0) {
+                sql.append(" AND b.id IN (SELECT bc.book_id FROM books_categories bc")
+                   .append(" WHERE bc.category_id IN (").append(placeholders(categories))
+                   .append(')');
+                if (allCategories) {
+                    sql.append(" GROUP BY bc.book_id HAVING COUNT(DISTINCT bc.category_id) = ?");
+                }
+                sql.append(')');
+            }
+            appendLike(sql, "b.author", authors);
+            appendLike(sql, "b.isbn", isbns);
+            if (price) {
+                sql.append(" AND b.price BETWEEN ? AND ?");
+            }
+            if (sort != null) {
+                if (sort.isSorted()) {
+                    sql.append(sort.stream()
+                                   .map(QueryShape::toOrderBy)
+                                   .collect(Collectors.joining(", ", " ORDER BY ", "")));
+                }
+                sql.append(" LIMIT ? OFFSET ?");
+            }
+            return sql.toString();
+        }
+
+        private static void appendLike(StringBuilder sql, String column, int terms) {
+            if (terms > 0) {
+                sql.append(Collections.nCopies(terms, "LOWER(" + column + ") LIKE ?").stream()
+                                      .collect(Collectors.joining(" OR ", " AND (", ")")));
+            }
+        }
+
+        private static String placeholders(int count) {
+            return String.join(", ", Collections.nCopies(count, "?"));
+        }
+
+        private static String toOrderBy(Sort.Order order) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            return (order.isIgnoreCase() ? "LOWER(" + column + ")" : column)
+                    + (order.isDescending() ? " DESC" : " ASC");
+        }
+    }
+}
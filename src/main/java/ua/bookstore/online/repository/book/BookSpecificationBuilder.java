@@ -1,27 +1,66 @@
 package ua.bookstore.online.repository.book;
 
+import jakarta.persistence.criteria.Path;
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
 import ua.bookstore.online.model.Book;
 import ua.bookstore.online.repository.SpecificationBuilder;
 import ua.bookstore.online.repository.SpecificationProviderManager;
+import ua.bookstore.online.repository.book.index.IdBitmap;
+import ua.bookstore.online.repository.book.specification.provider.AllCategoriesBookSpecificationProvider;
 
 @RequiredArgsConstructor
 @Component
 public class BookSpecificationBuilder implements SpecificationBuilder<Book, BookSearchParameters> {
+    private static final String ID = "id";
     private final SpecificationProviderManager<Book> bookSpecificationProviderManager;
 
     @Override
     public Specification<Book> build(BookSearchParameters bookSearchParameters) {
+        return build(bookSearchParameters, EnumSet.noneOf(BookSearchParameter.class));
+    }
+
+    public Specification<Book> build(BookSearchParameters bookSearchParameters,
+            Set<BookSearchParameter> excludedParameters) {
         return Arrays.stream(BookSearchParameter.values())
+                     .filter(p -> !excludedParameters.contains(p))
                      .map(p -> getSpecification(bookSearchParameters, p))
                      .reduce(Specification.where(null), Specification::and);
     }
 
+    public Specification<Book> idIn(IdBitmap ids) {
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get(ID).in(Arrays.stream(ids.toArray())
+                                        .mapToObj(Long::valueOf)
+                                        .toList());
+    }
+
+    public Specification<Book> after(BookCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Path<BigDecimal> price = root.get(BookSearchParameter.PRICE.getName());
+            Path<String> title = root.get(BookSearchParameter.TITLE.getName());
+            Path<Long> id = root.get(ID);
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(price, cursor.price()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(price, cursor.price()),
+                            criteriaBuilder.greaterThan(title, cursor.title())),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(price, cursor.price()),
+                            criteriaBuilder.equal(title, cursor.title()),
+                            criteriaBuilder.greaterThan(id, cursor.id())));
+        };
+    }
+
     private Specification<Book> getSpecification(BookSearchParameters bookSearchParameters,
             BookSearchParameter parameter) {
 
@@ -31,18 +70,26 @@ public class BookSpecificationBuilder implements SpecificationBuilder<Book, Book
             case AUTHOR -> bookSearchParameters.getAuthors();
             case ISBN -> bookSearchParameters.getIsbns();
             case PRICE -> {
-                Long minPrice = Optional.ofNullable(
-                        bookSearchParameters.getMinPrice()).orElse(0L);
-                Long maxPrice = Optional.ofNullable(
-                        bookSearchParameters.getMaxPrice()).orElse(Long.MAX_VALUE);
-                yield new String[]{String.valueOf(minPrice), String.valueOf(maxPrice)};
+                Long minPrice = bookSearchParameters.getMinPrice();
+                Long maxPrice = bookSearchParameters.getMaxPrice();
+                yield minPrice == null && maxPrice == null ? null : new String[]{
+                        String.valueOf(Optional.ofNullable(minPrice).orElse(0L)),
+                        String.valueOf(Optional.ofNullable(maxPrice).orElse(Long.MAX_VALUE))};
             }
         };
         return isValidParameters(parameters)
-                ? bookSpecificationProviderManager.getSpecificationProvider(parameter.getName())
+                ? bookSpecificationProviderManager.getSpecificationProvider(
+                        getProviderName(bookSearchParameters, parameter))
                                                   .getSpecification(parameters) : null;
     }
 
+    private String getProviderName(BookSearchParameters bookSearchParameters,
+            BookSearchParameter parameter) {
+        return parameter == BookSearchParameter.CATEGORY
+                && bookSearchParameters.getCategoryMatch() == CategoryMatch.ALL
+                ? AllCategoriesBookSpecificationProvider.ALL_CATEGORIES : parameter.getName();
+    }
+
     private boolean isValidParameters(String[] parameters) {
         return parameters != null && parameters.length > 0;
     }
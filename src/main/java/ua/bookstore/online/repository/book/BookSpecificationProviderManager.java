@@ -1,29 +1,35 @@
 package ua.bookstore.online.repository.book;
 
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 import ua.bookstore.online.exception.SpecificationProviderNotFoundException;
 import ua.bookstore.online.model.Book;
 import ua.bookstore.online.repository.SpecificationProvider;
 import ua.bookstore.online.repository.SpecificationProviderManager;
 
-@RequiredArgsConstructor
 @Component
 public class BookSpecificationProviderManager
         implements SpecificationProviderManager<Book> {
-    private final List<SpecificationProvider<Book>> bookSpecificationProviders;
+    private final Map<String, SpecificationProvider<Book>> bookSpecificationProviders;
+
+    public BookSpecificationProviderManager(
+            List<SpecificationProvider<Book>> bookSpecificationProviders) {
+        this.bookSpecificationProviders = bookSpecificationProviders.stream()
+                .collect(Collectors.toUnmodifiableMap(SpecificationProvider::getSearchParameter,
+                        Function.identity()));
+    }
 
     @Override
     public SpecificationProvider<Book> getSpecificationProvider(String bookSearchParameter) {
-        return bookSpecificationProviders.stream()
-                                         .filter(p -> p.getSearchParameter()
-                                                       .equals(bookSearchParameter))
-                                         .findFirst()
-                                         .orElseThrow(
-                                                 () -> new SpecificationProviderNotFoundException(
-                                                         "Can't find correct specification provider"
-                                                                 + " or parameter "
-                                                                 + bookSearchParameter));
+        SpecificationProvider<Book> provider = bookSpecificationProviders.get(bookSearchParameter);
+        if (provider == null) {
+            throw new SpecificationProviderNotFoundException(
+                    "Can't find correct specification provider or parameter "
+                            + bookSearchParameter);
+        }
+        return provider;
     }
 }
@@ -0,0 +1,16 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.util.Collection;
+import ua.bookstore.online.dto.book.BookDto;
+
+public interface BookIndex {
+    void index(BookDto book);
+
+    default void indexAll(Collection<BookDto> books) {
+        books.forEach(this::index);
+    }
+
+    void remove(Long id);
+
+    void clear();
+}
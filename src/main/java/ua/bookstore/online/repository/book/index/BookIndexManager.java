@@ -0,0 +1,180 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+import ua.bookstore.online.event.BookDeletedEvent;
+import ua.bookstore.online.event.BookSavedEvent;
+import ua.bookstore.online.event.BooksImportedEvent;
+import ua.bookstore.online.event.CategoryDeletedEvent;
+import ua.bookstore.online.event.CategorySavedEvent;
+import ua.bookstore.online.mapper.BookMapper;
+import ua.bookstore.online.model.Book;
+import ua.bookstore.online.repository.book.BookRepository;
+
+@Slf4j
+@Component
+public class BookIndexManager {
+    private static final String ID = "id";
+    private static final Sort ID_SORT = Sort.by(ID);
+    private final List<BookIndex> bookIndexes;
+    private final LuceneBookIndex luceneBookIndex;
+    private final CategoryBookIndex categoryBookIndex;
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Object pendingLock = new Object();
+    private List<Runnable> pending;
+    private volatile boolean ready;
+
+    public BookIndexManager(
+            List<BookIndex> bookIndexes,
+            LuceneBookIndex luceneBookIndex,
+            CategoryBookIndex categoryBookIndex,
+            BookRepository bookRepository,
+            BookMapper bookMapper,
+            @Value("${book.index.enabled:true}") boolean enabled,
+            @Value("${book.index.batch-size:1000}") int batchSize
+    ) {
+        this.bookIndexes = bookIndexes;
+        this.luceneBookIndex = luceneBookIndex;
+        this.categoryBookIndex = categoryBookIndex;
+        this.bookRepository = bookRepository;
+        this.bookMapper = bookMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (pendingLock) {
+            pending = new ArrayList<>();
+        }
+        ready = false;
+        try {
+            bookIndexes.forEach(BookIndex::clear);
+            long indexed = 0;
+            Long lastId = 0L;
+            List<Long> ids;
+            do {
+                ids = bookRepository.findIds(idGreaterThan(lastId), ID_SORT, 0, batchSize);
+                if (!ids.isEmpty()) {
+                    indexAll(ids);
+                    lastId = ids.getLast();
+                    indexed += ids.size();
+                }
+            } while (ids.size() == batchSize);
+            log.info("Indexed {} books", indexed);
+        } finally {
+            replayPending();
+        }
+        luceneBookIndex.refresh();
+        ready = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        if (enabled) {
+            apply(() -> index(event.book()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        if (enabled) {
+            apply(() -> bookIndexes.forEach(bookIndex -> bookIndex.indexAll(event.books())));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        if (enabled) {
+            apply(() -> bookIndexes.forEach(bookIndex -> bookIndex.remove(event.id())));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategorySaved(CategorySavedEvent event) {
+        if (enabled) {
+            apply(() -> updateCategoryName(event.category().id(), event.category().name()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        if (enabled) {
+            apply(() -> updateCategoryName(event.id(), null));
+        }
+    }
+
+    private void apply(Runnable change) {
+        synchronized (pendingLock) {
+            if (pending != null) {
+                pending.add(change);
+                return;
+            }
+        }
+        change.run();
+    }
+
+    private void replayPending() {
+        List<Runnable> changes;
+        do {
+            synchronized (pendingLock) {
+                changes = pending;
+                pending = changes.isEmpty() ? null : new ArrayList<>();
+            }
+            changes.forEach(Runnable::run);
+        } while (!changes.isEmpty());
+    }
+
+    private void updateCategoryName(Long categoryId, String name) {
+        if (luceneBookIndex.updateCategoryName(categoryId, name)) {
+            reindexCategory(categoryId);
+        }
+    }
+
+    private void reindexCategory(Long categoryId) {
+        int[] ids = categoryBookIndex.search(List.of(categoryId), CategoryMatch.ANY).toArray();
+        for (int from = 0; from < ids.length; from += batchSize) {
+            List<Long> batch = Arrays.stream(ids, from, Math.min(from + batchSize, ids.length))
+                                     .mapToObj(Long::valueOf)
+                                     .toList();
+            indexAll(batch);
+        }
+        log.info("Reindexed {} books of category {}", ids.length, categoryId);
+    }
+
+    private void indexAll(List<Long> ids) {
+        List<BookDto> books = bookRepository.findAllWithCategoriesByIdIn(ids).stream()
+                                            .map(bookMapper::toDto)
+                                            .toList();
+        bookIndexes.forEach(bookIndex -> bookIndex.indexAll(books));
+    }
+
+    private void index(BookDto book) {
+        bookIndexes.forEach(bookIndex -> bookIndex.index(book));
+    }
+
+    private Specification<Book> idGreaterThan(Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get(ID), id);
+    }
+}
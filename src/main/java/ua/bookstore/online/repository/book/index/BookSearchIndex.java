@@ -0,0 +1,256 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.book.BookFacetsDto;
+import ua.bookstore.online.dto.book.BookSuggestionDto;
+import ua.bookstore.online.dto.book.PriceBucketDto;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+import ua.bookstore.online.exception.SearchIndexException;
+import ua.bookstore.online.exception.SearchTooBroadException;
+import ua.bookstore.online.repository.book.BookSearchParameter;
+
+@Component
+public class BookSearchIndex {
+    private static final Set<BookSearchParameter> INDEXED_PARAMETERS =
+            EnumSet.allOf(BookSearchParameter.class);
+    private static final Set<BookSearchParameter> FUZZY_PARAMETERS =
+            EnumSet.of(BookSearchParameter.TITLE, BookSearchParameter.AUTHOR);
+    private static final String ID = "id";
+    private static final long CENTS_IN_UNIT = 100;
+    private final BookIndexManager bookIndexManager;
+    private final TrigramBookIndex trigramBookIndex;
+    private final CategoryBookIndex categoryBookIndex;
+    private final PriceBookIndex priceBookIndex;
+    private final SuggestionBookIndex suggestionBookIndex;
+    private final LuceneBookIndex luceneBookIndex;
+    private final FuzzyWordIndex fuzzyWordIndex;
+    private final int maxCandidates;
+    private final int maxSqlCandidates;
+    private final BigDecimal[] priceBucketBoundaries;
+    private final long[] priceBucketBoundariesInCents;
+
+    public BookSearchIndex(
+            BookIndexManager bookIndexManager,
+            TrigramBookIndex trigramBookIndex,
+            CategoryBookIndex categoryBookIndex,
+            PriceBookIndex priceBookIndex,
+            SuggestionBookIndex suggestionBookIndex,
+            LuceneBookIndex luceneBookIndex,
+            FuzzyWordIndex fuzzyWordIndex,
+            @Value("${book.index.max-candidates:10000}") int maxCandidates,
+            @Value("${book.index.max-sql-candidates:500}") int maxSqlCandidates,
+            @Value("${book.search.facets.price-buckets:10,20,50,100}")
+            BigDecimal[] priceBucketBoundaries
+    ) {
+        this.bookIndexManager = bookIndexManager;
+        this.trigramBookIndex = trigramBookIndex;
+        this.categoryBookIndex = categoryBookIndex;
+        this.priceBookIndex = priceBookIndex;
+        this.suggestionBookIndex = suggestionBookIndex;
+        this.luceneBookIndex = luceneBookIndex;
+        this.fuzzyWordIndex = fuzzyWordIndex;
+        this.maxCandidates = maxCandidates;
+        this.maxSqlCandidates = maxSqlCandidates;
+        this.priceBucketBoundaries = Arrays.stream(priceBucketBoundaries)
+                                           .distinct()
+                                           .sorted()
+                                           .toArray(BigDecimal[]::new);
+        this.priceBucketBoundariesInCents = Arrays.stream(this.priceBucketBoundaries)
+                                                  .mapToLong(PriceBookIndex::toCents)
+                                                  .toArray();
+    }
+
+    public Set<BookSearchParameter> getIndexedParameters() {
+        return INDEXED_PARAMETERS;
+    }
+
+    public Optional<IdBitmap> findCandidates(BookSearchParameters parameters) {
+        return findCandidates(parameters, maxCandidates);
+    }
+
+    public Optional<IdBitmap> findSqlCandidates(BookSearchParameters parameters) {
+        return findCandidates(parameters, maxSqlCandidates);
+    }
+
+    public Optional<List<Long>> findIndexOrderedIds(BookSearchParameters parameters, Sort sort,
+            long offset, int limit) {
+        if (!bookIndexManager.isReady()) {
+            return Optional.empty();
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() == 1 && orders.getFirst().getProperty().equals(ID)) {
+            return Optional.ofNullable(findMatches(parameters))
+                           .map(ids -> getIdPage(ids, orders.getFirst().isDescending(),
+                                   offset, limit));
+        }
+        boolean priceOrdered = !orders.isEmpty()
+                && orders.getFirst().getProperty().equals(BookSearchParameter.PRICE.getName())
+                && (orders.size() == 1
+                        || orders.size() == 2 && orders.getLast().getProperty().equals(ID));
+        if (!priceOrdered) {
+            return Optional.empty();
+        }
+        return Optional.of(priceBookIndex.findPage(match(parameters),
+                getMinCents(parameters), getMaxCents(parameters),
+                orders.getFirst().isDescending(),
+                orders.size() == 2 && orders.getLast().isDescending(), offset, limit));
+    }
+
+    public Optional<BookFacetsDto> countFacets(BookSearchParameters parameters) {
+        if (!bookIndexManager.isReady()) {
+            return Optional.empty();
+        }
+        IdBitmap matches = match(parameters);
+        if (matches == null || hasPriceBounds(parameters)) {
+            IdBitmap inRange = priceBookIndex.findInRange(
+                    getMinCents(parameters), getMaxCents(parameters));
+            matches = matches == null ? inRange : matches.and(inRange);
+        }
+        long[] bucketCounts = priceBookIndex.countByBucket(matches, priceBucketBoundariesInCents);
+        List<PriceBucketDto> priceBuckets = new ArrayList<>(bucketCounts.length);
+        for (int i = 0; i < bucketCounts.length; i++) {
+            priceBuckets.add(new PriceBucketDto(
+                    i == 0 ? null : priceBucketBoundaries[i - 1],
+                    i == priceBucketBoundaries.length ? null : priceBucketBoundaries[i],
+                    bucketCounts[i]));
+        }
+        return Optional.of(new BookFacetsDto(
+                categoryBookIndex.countByCategory(matches), priceBuckets));
+    }
+
+    public List<BookSuggestionDto> suggest(String prefix, int limit) {
+        if (!bookIndexManager.isReady()) {
+            return List.of();
+        }
+        return suggestionBookIndex.suggest(prefix, limit);
+    }
+
+    public List<Long> rank(String query, int limit) {
+        if (!bookIndexManager.isReady()) {
+            throw new SearchIndexException("Search index is not ready yet, try again later");
+        }
+        return luceneBookIndex.search(query, limit);
+    }
+
+    private Optional<IdBitmap> findCandidates(BookSearchParameters parameters, int limit) {
+        if (!bookIndexManager.isReady()) {
+            return Optional.empty();
+        }
+        IdBitmap candidates = findMatches(parameters);
+        if (candidates == null || candidates.cardinality() <= limit) {
+            return Optional.ofNullable(candidates);
+        }
+        if (isFuzzy(parameters)) {
+            throw new SearchTooBroadException("Fuzzy search matches more than " + limit
+                    + " books, narrow it down or sort by price or id");
+        }
+        return Optional.empty();
+    }
+
+    private IdBitmap findMatches(BookSearchParameters parameters) {
+        IdBitmap matches = match(parameters);
+        if (hasPriceBounds(parameters)) {
+            IdBitmap inRange = priceBookIndex.findInRange(
+                    getMinCents(parameters), getMaxCents(parameters));
+            matches = matches == null ? inRange : matches.and(inRange);
+        }
+        return matches;
+    }
+
+    private List<Long> getIdPage(IdBitmap ids, boolean descending, long offset, int limit) {
+        int[] sorted = ids.toArray();
+        int from = (int) Math.min(offset, sorted.length);
+        int to = Math.min(from + limit, sorted.length);
+        List<Long> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add((long) sorted[descending ? sorted.length - 1 - i : i]);
+        }
+        return page;
+    }
+
+    private IdBitmap match(BookSearchParameters parameters) {
+        IdBitmap matched = null;
+        for (BookSearchParameter parameter : INDEXED_PARAMETERS) {
+            String[] terms = getTerms(parameters, parameter);
+            if (terms != null && terms.length > 0) {
+                IdBitmap found = search(parameters, parameter, terms);
+                matched = matched == null ? found : matched.and(found);
+            }
+        }
+        return matched;
+    }
+
+    private IdBitmap search(BookSearchParameters parameters, BookSearchParameter parameter,
+            String[] terms) {
+        if (parameter != BookSearchParameter.CATEGORY) {
+            IdBitmap found = trigramBookIndex.search(parameter, terms);
+            if (isFuzzy(parameters) && FUZZY_PARAMETERS.contains(parameter)) {
+                for (String term : terms) {
+                    found = found.or(searchFuzzy(parameter, term));
+                }
+            }
+            return found;
+        }
+        List<Long> categoryIds = Arrays.stream(terms)
+                                       .map(Long::parseLong)
+                                       .toList();
+        CategoryMatch match = Optional.ofNullable(parameters.getCategoryMatch())
+                                      .orElse(CategoryMatch.ANY);
+        return categoryBookIndex.search(categoryIds, match);
+    }
+
+    private IdBitmap searchFuzzy(BookSearchParameter parameter, String term) {
+        IdBitmap matched = null;
+        for (String word : FuzzyWordIndex.words(term)) {
+            String[] corrections = fuzzyWordIndex.correct(word).toArray(String[]::new);
+            IdBitmap found = trigramBookIndex.search(parameter, corrections);
+            matched = matched == null ? found : matched.and(found);
+            if (matched.isEmpty()) {
+                break;
+            }
+        }
+        return matched == null ? new IdBitmap() : matched;
+    }
+
+    private boolean isFuzzy(BookSearchParameters parameters) {
+        return Boolean.TRUE.equals(parameters.getFuzzy());
+    }
+
+    private String[] getTerms(BookSearchParameters parameters, BookSearchParameter parameter) {
+        return switch (parameter) {
+            case TITLE -> parameters.getTitles();
+            case CATEGORY -> parameters.getCategoryIds();
+            case AUTHOR -> parameters.getAuthors();
+            case ISBN -> parameters.getIsbns();
+            case PRICE -> null;
+        };
+    }
+
+    private boolean hasPriceBounds(BookSearchParameters parameters) {
+        return parameters.getMinPrice() != null || parameters.getMaxPrice() != null;
+    }
+
+    private long getMinCents(BookSearchParameters parameters) {
+        return parameters.getMinPrice() == null
+                ? Long.MIN_VALUE
+                : Math.max(parameters.getMinPrice(), Long.MIN_VALUE / CENTS_IN_UNIT)
+                        * CENTS_IN_UNIT;
+    }
+
+    private long getMaxCents(BookSearchParameters parameters) {
+        return parameters.getMaxPrice() == null
+                ? Long.MAX_VALUE
+                : Math.min(parameters.getMaxPrice(), Long.MAX_VALUE / CENTS_IN_UNIT)
+                        * CENTS_IN_UNIT;
+    }
+}
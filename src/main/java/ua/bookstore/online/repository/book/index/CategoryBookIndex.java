@@ -0,0 +1,116 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+
+@Component
+public class CategoryBookIndex implements BookIndex {
+    private final Map<Long, IdBitmap> booksByCategory = new HashMap<>();
+    private final Map<Integer, Set<Long>> categoriesByBook = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public IdBitmap search(Collection<Long> categoryIds, CategoryMatch match) {
+        lock.readLock().lock();
+        try {
+            return match == CategoryMatch.ALL ? intersect(categoryIds) : union(categoryIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Long, Long> countByCategory(IdBitmap ids) {
+        Map<Long, Long> counts = new TreeMap<>();
+        lock.readLock().lock();
+        try {
+            ids.forEach(id -> categoriesByBook.getOrDefault(id, Set.of())
+                    .forEach(categoryId -> counts.merge(categoryId, 1L, Long::sum)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    @Override
+    public void index(BookDto book) {
+        int id = Math.toIntExact(book.id());
+        Set<Long> categoryIds = book.categoryIds() == null
+                ? Set.of()
+                : Set.copyOf(book.categoryIds());
+        lock.writeLock().lock();
+        try {
+            removeBook(id);
+            categoryIds.forEach(categoryId -> booksByCategory
+                    .computeIfAbsent(categoryId, key -> new IdBitmap())
+                    .add(id));
+            categoriesByBook.put(id, categoryIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeBook(Math.toIntExact(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            booksByCategory.clear();
+            categoriesByBook.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IdBitmap union(Collection<Long> categoryIds) {
+        IdBitmap result = new IdBitmap();
+        for (Long categoryId : categoryIds) {
+            IdBitmap books = booksByCategory.get(categoryId);
+            if (books != null) {
+                result = result.or(books);
+            }
+        }
+        return result;
+    }
+
+    private IdBitmap intersect(Collection<Long> categoryIds) {
+        IdBitmap result = null;
+        for (Long categoryId : categoryIds) {
+            IdBitmap books = booksByCategory.get(categoryId);
+            if (books == null) {
+                return new IdBitmap();
+            }
+            result = result == null ? books.copy() : result.and(books);
+        }
+        return result == null ? new IdBitmap() : result;
+    }
+
+    private void removeBook(int id) {
+        Set<Long> categoryIds = categoriesByBook.remove(id);
+        if (categoryIds == null) {
+            return;
+        }
+        for (Long categoryId : categoryIds) {
+            IdBitmap books = booksByCategory.get(categoryId);
+            books.remove(id);
+            if (books.isEmpty()) {
+                booksByCategory.remove(categoryId);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.book.BookDto;
+
+@Component
+public class FuzzyWordIndex implements BookIndex {
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_DISTANCE = 2;
+    private static final int SHORT_WORD_LENGTH = 4;
+    private static final int MIN_WORD_LENGTH = 3;
+    private final Map<String, Integer> wordCounts = new HashMap<>();
+    private final Map<String, Set<String>> wordsByDelete = new HashMap<>();
+    private final Map<Integer, List<String>> wordsByBook = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int prefixLength;
+    private final int maxCorrections;
+
+    public FuzzyWordIndex(
+            @Value("${book.search.fuzzy.prefix-length:7}") int prefixLength,
+            @Value("${book.search.fuzzy.max-corrections:10}") int maxCorrections
+    ) {
+        this.prefixLength = prefixLength;
+        this.maxCorrections = maxCorrections;
+    }
+
+    public static List<String> words(String value) {
+        return WORD_SEPARATOR.splitAsStream(TrigramBookIndex.normalize(value))
+                             .filter(word -> !word.isEmpty())
+                             .toList();
+    }
+
+    public List<String> correct(String word) {
+        if (word.length() < MIN_WORD_LENGTH) {
+            return List.of(word);
+        }
+        int maxDistance = word.length() <= SHORT_WORD_LENGTH ? 1 : MAX_DISTANCE;
+        lock.readLock().lock();
+        try {
+            Set<String> candidates = new HashSet<>();
+            for (String delete : getDeletes(word, maxDistance)) {
+                candidates.addAll(wordsByDelete.getOrDefault(delete, Set.of()));
+            }
+            Map<String, Integer> distances = new HashMap<>();
+            for (String candidate : candidates) {
+                int distance = distance(word, candidate, maxDistance);
+                if (distance <= maxDistance) {
+                    distances.put(candidate, distance);
+                }
+            }
+            Comparator<String> byDistance = Comparator.comparing(distances::get);
+            return distances.keySet().stream()
+                            .sorted(byDistance
+                                    .thenComparing(candidate -> -wordCounts.get(candidate))
+                                    .thenComparing(Comparator.naturalOrder()))
+                            .limit(maxCorrections)
+                            .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(BookDto book) {
+        int id = Math.toIntExact(book.id());
+        List<String> words = new ArrayList<>();
+        if (book.title() != null) {
+            words.addAll(words(book.title()));
+        }
+        if (book.author() != null) {
+            words.addAll(words(book.author()));
+        }
+        lock.writeLock().lock();
+        try {
+            removeBook(id);
+            words.forEach(this::addWord);
+            wordsByBook.put(id, words);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeBook(Math.toIntExact(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            wordCounts.clear();
+            wordsByDelete.clear();
+            wordsByBook.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static int distance(String source, String target, int maxDistance) {
+        if (Math.abs(source.length() - target.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] beforePrevious = new int[target.length() + 1];
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1),
+                        previous[j - 1] + cost);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return previous[target.length()];
+    }
+
+    private void addWord(String word) {
+        if (wordCounts.merge(word, 1, Integer::sum) == 1 && word.length() >= MIN_WORD_LENGTH) {
+            getDeletes(word, MAX_DISTANCE).forEach(delete -> wordsByDelete
+                    .computeIfAbsent(delete, key -> new HashSet<>())
+                    .add(word));
+        }
+    }
+
+    private void removeBook(int id) {
+        List<String> words = wordsByBook.remove(id);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            if (wordCounts.merge(word, -1, Integer::sum) > 0) {
+                continue;
+            }
+            wordCounts.remove(word);
+            if (word.length() >= MIN_WORD_LENGTH) {
+                getDeletes(word, MAX_DISTANCE).forEach(delete -> {
+                    Set<String> deleteWords = wordsByDelete.get(delete);
+                    deleteWords.remove(word);
+                    if (deleteWords.isEmpty()) {
+                        wordsByDelete.remove(delete);
+                    }
+                });
+            }
+        }
+    }
+
+    private Set<String> getDeletes(String word, int maxDistance) {
+        Set<String> deletes = new LinkedHashSet<>();
+        String prefix = word.length() > prefixLength ? word.substring(0, prefixLength) : word;
+        deletes.add(prefix);
+        List<String> level = List.of(prefix);
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            List<String> next = new ArrayList<>();
+            for (String value : level) {
+                for (int i = 0; i < value.length(); i++) {
+                    String delete = value.substring(0, i) + value.substring(i + 1);
+                    if (deletes.add(delete)) {
+                        next.add(delete);
+                    }
+                }
+            }
+            level = next;
+        }
+        return deletes;
+    }
+}
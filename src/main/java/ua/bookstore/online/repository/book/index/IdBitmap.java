@@ -0,0 +1,402 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public final class IdBitmap {
+    private static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+    private static final int BITMAP_CONTAINER_WORDS = 1024;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int HIGH_BITS_SHIFT = 16;
+    private static final int WORD_SHIFT = 6;
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public IdBitmap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private IdBitmap(int capacity) {
+        keys = new char[capacity];
+        containers = new Container[capacity];
+    }
+
+    public static IdBitmap of(int... ids) {
+        IdBitmap bitmap = new IdBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    public void add(int id) {
+        char high = highBits(id);
+        int index = Arrays.binarySearch(keys, 0, size, high);
+        if (index >= 0) {
+            containers[index] = containers[index].add(lowBits(id));
+            return;
+        }
+        insertContainer(-index - 1, high, new ArrayContainer().add(lowBits(id)));
+    }
+
+    public void remove(int id) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(id));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove(lowBits(id));
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+            return;
+        }
+        containers[index] = container;
+    }
+
+    public boolean contains(int id) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(id));
+        return index >= 0 && containers[index].contains(lowBits(id));
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap(Math.max(INITIAL_CAPACITY, Math.min(size, other.size)));
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public IdBitmap or(IdBitmap other) {
+        IdBitmap result = new IdBitmap(Math.max(INITIAL_CAPACITY, size + other.size));
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || i < size && keys[i] < other.keys[j]) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public IdBitmap copy() {
+        IdBitmap result = new IdBitmap(Math.max(INITIAL_CAPACITY, size));
+        for (int i = 0; i < size; i++) {
+            result.appendContainer(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << HIGH_BITS_SHIFT, consumer);
+        }
+    }
+
+    public int[] toArray() {
+        int[] ids = new int[cardinality()];
+        int[] position = new int[1];
+        forEach(id -> ids[position[0]++] = id);
+        return ids;
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        ensureCapacity();
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendContainer(char key, Container container) {
+        ensureCapacity();
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+    }
+
+    private static char highBits(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id should be non-negative: " + id);
+        }
+        return (char) (id >>> HIGH_BITS_SHIFT);
+    }
+
+    private static char lowBits(int id) {
+        return (char) id;
+    }
+
+    private interface Container {
+        boolean contains(char value);
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        int cardinality();
+
+        Container and(Container other);
+
+        Container or(Container other);
+
+        void forEach(int base, IntConsumer consumer);
+
+        Container copy();
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer() {
+            this(new char[INITIAL_CAPACITY], 0);
+        }
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_CONTAINER_MAX_SIZE) {
+                return toBitmapContainer().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                int capacity = Math.max(cardinality * 2, INITIAL_CAPACITY);
+                values = Arrays.copyOf(values, Math.min(capacity, ARRAY_CONTAINER_MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[cardinality];
+            int resultCardinality = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[resultCardinality++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, resultCardinality);
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer otherArray = (ArrayContainer) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int resultCardinality = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality
+                        || i < cardinality && values[i] < otherArray.values[j]) {
+                    result[resultCardinality++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[resultCardinality++] = otherArray.values[j++];
+                } else {
+                    result[resultCardinality++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayContainer merged = new ArrayContainer(result, resultCardinality);
+            return resultCardinality > ARRAY_CONTAINER_MAX_SIZE
+                    ? merged.toBitmapContainer() : merged;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        private BitmapContainer toBitmapContainer() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer() {
+            this(new long[BITMAP_CONTAINER_WORDS], 0);
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> WORD_SHIFT] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            if (!contains(value)) {
+                words[value >>> WORD_SHIFT] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            if (!contains(value)) {
+                return this;
+            }
+            words[value >>> WORD_SHIFT] &= ~(1L << value);
+            cardinality--;
+            return cardinality <= ARRAY_CONTAINER_MAX_SIZE ? toArrayContainer() : this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer otherBitmap = (BitmapContainer) other;
+            long[] result = new long[BITMAP_CONTAINER_WORDS];
+            int resultCardinality = 0;
+            for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+                result[i] = words[i] & otherBitmap.words[i];
+                resultCardinality += Long.bitCount(result[i]);
+            }
+            BitmapContainer intersection = new BitmapContainer(result, resultCardinality);
+            return resultCardinality <= ARRAY_CONTAINER_MAX_SIZE
+                    ? intersection.toArrayContainer() : intersection;
+        }
+
+        @Override
+        public Container or(Container other) {
+            BitmapContainer union = (BitmapContainer) copy();
+            if (other instanceof ArrayContainer otherArray) {
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    union.add(otherArray.values[i]);
+                }
+                return union;
+            }
+            BitmapContainer otherBitmap = (BitmapContainer) other;
+            int resultCardinality = 0;
+            for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+                union.words[i] |= otherBitmap.words[i];
+                resultCardinality += Long.bitCount(union.words[i]);
+            }
+            union.cardinality = resultCardinality;
+            return union;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer consumer) {
+            for (int i = 0; i < BITMAP_CONTAINER_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(base | (i << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        private ArrayContainer toArrayContainer() {
+            char[] values = new char[cardinality];
+            int[] position = new int[1];
+            forEach(0, value -> values[position[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package ua.bookstore.online.repository.book.index;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.exception.SearchIndexException;
+import ua.bookstore.online.repository.category.CategoryRepository;
+
+@Component
+public class LuceneBookIndex implements BookIndex {
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String AUTHOR = "author";
+    private static final String DESCRIPTION = "description";
+    private static final String CATEGORIES = "categories";
+    private static final Map<String, Float> FIELD_BOOSTS =
+            Map.of(TITLE, 3f, AUTHOR, 2f, CATEGORIES, 1.5f, DESCRIPTION, 1f);
+    private static final int MAX_QUERY_TERMS = 32;
+    private final CategoryRepository categoryRepository;
+    private final Map<Long, String> categoryNames = new ConcurrentHashMap<>();
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    public LuceneBookIndex(CategoryRepository categoryRepository) throws IOException {
+        this.categoryRepository = categoryRepository;
+        this.directory = new ByteBuffersDirectory();
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setSimilarity(new BM25Similarity())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    public List<Long> search(String text, int limit) {
+        BooleanQuery query = buildQuery(text);
+        if (query.clauses().isEmpty()) {
+            return List.of();
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(scoreDoc.doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new SearchIndexException("Can't search books in the search index", e);
+        }
+    }
+
+    @Override
+    public void index(BookDto book) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(book.id()), Field.Store.YES));
+        addText(document, TITLE, book.title());
+        addText(document, AUTHOR, book.author());
+        addText(document, DESCRIPTION, book.description());
+        addText(document, CATEGORIES, getCategoryNames(book.categoryIds()));
+        try {
+            indexWriter.updateDocument(new Term(ID, String.valueOf(book.id())), document);
+            changed.set(true);
+        } catch (IOException e) {
+            throw new SearchIndexException("Can't index book by id " + book.id(), e);
+        }
+    }
+
+    public boolean updateCategoryName(Long id, String name) {
+        String previous = name == null ? categoryNames.remove(id) : categoryNames.put(id, name);
+        return previous != null && !previous.equals(name);
+    }
+
+    @Override
+    public void remove(Long id) {
+        try {
+            indexWriter.deleteDocuments(new Term(ID, String.valueOf(id)));
+            changed.set(true);
+        } catch (IOException e) {
+            throw new SearchIndexException("Can't remove book by id " + id, e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        categoryNames.clear();
+        try {
+            indexWriter.deleteAll();
+            changed.set(true);
+        } catch (IOException e) {
+            throw new SearchIndexException("Can't clear the search index", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${book.search.lucene.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!changed.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            changed.set(true);
+            throw new SearchIndexException("Can't refresh the search index", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private BooleanQuery buildQuery(String text) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : analyze(text)) {
+            FIELD_BOOSTS.forEach((field, boost) -> builder.add(
+                    new BoostQuery(new TermQuery(new Term(field, term)), boost),
+                    BooleanClause.Occur.SHOULD));
+        }
+        return builder.build();
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute attribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (terms.size() < MAX_QUERY_TERMS && tokenStream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new SearchIndexException("Can't analyze search query", e);
+        }
+        return terms;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private String getCategoryNames(Collection<Long> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return null;
+        }
+        if (!categoryNames.keySet().containsAll(categoryIds)) {
+            categoryRepository.findAll()
+                              .forEach(category -> categoryNames.put(
+                                      category.getId(), category.getName()));
+        }
+        return categoryIds.stream()
+                          .map(categoryNames::get)
+                          .filter(Objects::nonNull)
+                          .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,259 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.book.BookDto;
+
+@Component
+public class PriceBookIndex implements BookIndex {
+    private static final int CENTS_SCALE = 2;
+    private final Map<Integer, Long> pricesByBook = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public static long toCents(BigDecimal price) {
+        return price.setScale(CENTS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public IdBitmap findInRange(long minCents, long maxCents) {
+        Snapshot current = snapshot;
+        IdBitmap result = new IdBitmap();
+        int to = current.upperBound(maxCents);
+        for (int i = current.lowerBound(minCents); i < to; i++) {
+            result.add(current.ids[i]);
+        }
+        return result;
+    }
+
+    public List<Long> findPage(IdBitmap filter, long minCents, long maxCents,
+            boolean priceDescending, boolean idDescending, long offset, int limit) {
+        Snapshot current = snapshot;
+        int from = current.lowerBound(minCents);
+        int to = current.upperBound(maxCents);
+        PageCollector collector = new PageCollector(filter, offset, limit);
+        int i = priceDescending ? to : from;
+        while (!collector.isFull() && (priceDescending ? i > from : i < to)) {
+            int groupStart = priceDescending ? current.groupStart(i - 1, from) : i;
+            int groupEnd = priceDescending ? i : current.groupEnd(i, to);
+            if (idDescending) {
+                for (int j = groupEnd - 1; j >= groupStart && !collector.isFull(); j--) {
+                    collector.accept(current.ids[j]);
+                }
+            } else {
+                for (int j = groupStart; j < groupEnd && !collector.isFull(); j++) {
+                    collector.accept(current.ids[j]);
+                }
+            }
+            i = priceDescending ? groupStart : groupEnd;
+        }
+        return collector.ids;
+    }
+
+    public long[] countByBucket(IdBitmap ids, long[] boundaries) {
+        long[] counts = new long[boundaries.length + 1];
+        ids.forEach(id -> {
+            Long cents = pricesByBook.get(id);
+            if (cents != null) {
+                int index = Arrays.binarySearch(boundaries, cents);
+                counts[index >= 0 ? index + 1 : -index - 1]++;
+            }
+        });
+        return counts;
+    }
+
+    @Override
+    public void index(BookDto book) {
+        indexAll(List.of(book));
+    }
+
+    @Override
+    public synchronized void indexAll(Collection<BookDto> books) {
+        Map<Integer, Long> changes = new HashMap<>();
+        for (BookDto book : books) {
+            changes.put(Math.toIntExact(book.id()),
+                    book.price() == null ? null : toCents(book.price()));
+        }
+        apply(changes);
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        apply(Collections.singletonMap(Math.toIntExact(id), null));
+    }
+
+    @Override
+    public synchronized void clear() {
+        pricesByBook.clear();
+        snapshot = Snapshot.EMPTY;
+    }
+
+    private void apply(Map<Integer, Long> changes) {
+        Snapshot current = snapshot;
+        int[] removed = new int[changes.size()];
+        int removedCount = 0;
+        long[] addedPrices = new long[changes.size()];
+        int[] addedIds = new int[changes.size()];
+        int addedCount = 0;
+        for (Map.Entry<Integer, Long> change : changes.entrySet()) {
+            int id = change.getKey();
+            Long cents = change.getValue();
+            Long previous = cents == null ? pricesByBook.remove(id) : pricesByBook.put(id, cents);
+            if (Objects.equals(previous, cents)) {
+                continue;
+            }
+            if (previous != null) {
+                removed[removedCount++] = current.indexOf(previous, id);
+            }
+            if (cents != null) {
+                addedCount = insert(addedPrices, addedIds, addedCount, cents, id);
+            }
+        }
+        if (removedCount == 0 && addedCount == 0) {
+            return;
+        }
+        Arrays.sort(removed, 0, removedCount);
+        snapshot = current.merge(Arrays.copyOf(removed, removedCount),
+                new Snapshot(Arrays.copyOf(addedPrices, addedCount),
+                        Arrays.copyOf(addedIds, addedCount)));
+    }
+
+    private static int insert(long[] prices, int[] ids, int size, long cents, int id) {
+        int position = position(prices, ids, size, cents, id);
+        System.arraycopy(prices, position, prices, position + 1, size - position);
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        prices[position] = cents;
+        ids[position] = id;
+        return size + 1;
+    }
+
+    private static int position(long[] prices, int[] ids, int size, long cents, int id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (precedes(prices[middle], ids[middle], cents, id)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean precedes(long cents, int id, long otherCents, int otherId) {
+        return cents < otherCents || cents == otherCents && id < otherId;
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new int[0]);
+        private final long[] prices;
+        private final int[] ids;
+
+        private Snapshot(long[] prices, int[] ids) {
+            this.prices = prices;
+            this.ids = ids;
+        }
+
+        private int indexOf(long cents, int id) {
+            return position(prices, ids, prices.length, cents, id);
+        }
+
+        private Snapshot merge(int[] removed, Snapshot added) {
+            int size = prices.length - removed.length + added.prices.length;
+            long[] mergedPrices = new long[size];
+            int[] mergedIds = new int[size];
+            int next = 0;
+            int nextRemoved = 0;
+            int nextAdded = 0;
+            for (int i = 0; i < prices.length; i++) {
+                if (nextRemoved < removed.length && removed[nextRemoved] == i) {
+                    nextRemoved++;
+                    continue;
+                }
+                while (nextAdded < added.prices.length && precedes(added.prices[nextAdded],
+                        added.ids[nextAdded], prices[i], ids[i])) {
+                    mergedPrices[next] = added.prices[nextAdded];
+                    mergedIds[next++] = added.ids[nextAdded++];
+                }
+                mergedPrices[next] = prices[i];
+                mergedIds[next++] = ids[i];
+            }
+            int remaining = added.prices.length - nextAdded;
+            System.arraycopy(added.prices, nextAdded, mergedPrices, next, remaining);
+            System.arraycopy(added.ids, nextAdded, mergedIds, next, remaining);
+            return new Snapshot(mergedPrices, mergedIds);
+        }
+
+        private int lowerBound(long cents) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (prices[middle] < cents) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(long cents) {
+            return cents == Long.MAX_VALUE ? prices.length : lowerBound(cents + 1);
+        }
+
+        private int groupStart(int index, int from) {
+            int start = index;
+            while (start > from && prices[start - 1] == prices[index]) {
+                start--;
+            }
+            return start;
+        }
+
+        private int groupEnd(int index, int to) {
+            int end = index + 1;
+            while (end < to && prices[end] == prices[index]) {
+                end++;
+            }
+            return end;
+        }
+    }
+
+    private static final class PageCollector {
+        private final IdBitmap filter;
+        private final int limit;
+        private final List<Long> ids;
+        private long toSkip;
+
+        private PageCollector(IdBitmap filter, long offset, int limit) {
+            this.filter = filter;
+            this.limit = limit;
+            this.ids = new ArrayList<>(limit);
+            this.toSkip = offset;
+        }
+
+        private boolean isFull() {
+            return ids.size() >= limit;
+        }
+
+        private void accept(int id) {
+            if (filter != null && !filter.contains(id)) {
+                return;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+                return;
+            }
+            ids.add((long) id);
+        }
+    }
+}
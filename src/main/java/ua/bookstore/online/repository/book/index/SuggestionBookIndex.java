@@ -0,0 +1,378 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookSuggestionDto;
+import ua.bookstore.online.dto.book.SuggestionType;
+
+@Component
+public class SuggestionBookIndex implements BookIndex {
+    private static final Comparator<Completion> BY_WEIGHT =
+            Comparator.comparingInt((Completion completion) -> completion.weight).reversed()
+                      .thenComparing(completion -> completion.key);
+    private final Map<String, Completion> completions = new HashMap<>();
+    private final Map<Integer, List<Completion>> completionsByBook = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxSuggestions;
+    private final int maxPrefixLength;
+    private Node root = new Node("");
+
+    public SuggestionBookIndex(
+            @Value("${book.suggest.max-size:10}") int maxSuggestions,
+            @Value("${book.suggest.max-prefix-length:16}") int maxPrefixLength
+    ) {
+        this.maxSuggestions = maxSuggestions;
+        this.maxPrefixLength = maxPrefixLength;
+    }
+
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    public List<BookSuggestionDto> suggest(String prefix, int limit) {
+        String normalized = TrigramBookIndex.normalize(prefix).strip();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = findNode(normalized.substring(0,
+                    Math.min(normalized.length(), maxPrefixLength)));
+            if (node == null) {
+                return List.of();
+            }
+            List<Completion> matches = normalized.length() <= maxPrefixLength
+                    ? node.top
+                    : findLongPrefixMatches(node, normalized);
+            return matches.stream()
+                          .limit(limit)
+                          .map(completion -> new BookSuggestionDto(
+                                  completion.text, completion.type, completion.weight))
+                          .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(BookDto book) {
+        int id = Math.toIntExact(book.id());
+        lock.writeLock().lock();
+        try {
+            removeBook(id);
+            List<Completion> bookCompletions = new ArrayList<>();
+            addCompletion(bookCompletions, book.title(), SuggestionType.TITLE);
+            addCompletion(bookCompletions, book.author(), SuggestionType.AUTHOR);
+            completionsByBook.put(id, bookCompletions);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeBook(Math.toIntExact(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            completions.clear();
+            completionsByBook.clear();
+            root = new Node("");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addCompletion(List<Completion> bookCompletions, String text,
+            SuggestionType type) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String normalized = TrigramBookIndex.normalize(text).strip();
+        Completion completion = completions.computeIfAbsent(type + ":" + normalized,
+                key -> new Completion(key, normalized, text.strip(), type));
+        if (completion.weight++ == 0) {
+            getWordStarts(normalized).forEach(start -> insert(completion, start));
+        } else {
+            refresh(completion);
+        }
+        bookCompletions.add(completion);
+    }
+
+    private void removeBook(int id) {
+        List<Completion> bookCompletions = completionsByBook.remove(id);
+        if (bookCompletions == null) {
+            return;
+        }
+        for (Completion completion : bookCompletions) {
+            if (--completion.weight == 0) {
+                completions.remove(completion.key);
+                getWordStarts(completion.normalized)
+                        .forEach(start -> delete(completion, start));
+            } else {
+                refresh(completion);
+            }
+        }
+    }
+
+    private void insert(Completion completion, int start) {
+        List<Node> path = getPath(getKey(completion, start), true);
+        path.getLast().terminals.add(completion);
+        refresh(path);
+    }
+
+    private void delete(Completion completion, int start) {
+        List<Node> path = getPath(getKey(completion, start), false);
+        if (path != null) {
+            path.getLast().terminals.remove(completion);
+            refresh(path);
+        }
+    }
+
+    private void refresh(Completion completion) {
+        getWordStarts(completion.normalized).forEach(start -> {
+            List<Node> path = getPath(getKey(completion, start), false);
+            if (path != null) {
+                refresh(path);
+            }
+        });
+    }
+
+    private void refresh(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            node.refreshTop(maxSuggestions);
+            if (i == 0) {
+                continue;
+            }
+            if (node.isEmpty()) {
+                path.get(i - 1).removeChild(node);
+            } else if (node.terminals.isEmpty() && node.children.length == 1) {
+                node.mergeWithOnlyChild();
+            }
+        }
+    }
+
+    private String getKey(Completion completion, int start) {
+        return completion.normalized.substring(start,
+                Math.min(completion.normalized.length(), start + maxPrefixLength));
+    }
+
+    private Node findNode(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.getChild(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int common = child.commonPrefixLength(prefix, position);
+            if (position + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    private List<Node> getPath(String key, boolean create) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.getChild(key.charAt(position));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node(key.substring(position));
+                node.addChild(child);
+            }
+            int common = child.commonPrefixLength(key, position);
+            if (common < child.label.length()) {
+                if (!create) {
+                    return null;
+                }
+                child = node.splitChild(child, common);
+            }
+            node = child;
+            path.add(node);
+            position += common;
+        }
+        return path;
+    }
+
+    private List<Completion> findLongPrefixMatches(Node node, String prefix) {
+        Set<Completion> candidates = new LinkedHashSet<>();
+        node.collectTerminals(candidates);
+        return candidates.stream()
+                         .filter(completion -> hasWordStartingWith(completion, prefix))
+                         .sorted(BY_WEIGHT)
+                         .toList();
+    }
+
+    private boolean hasWordStartingWith(Completion completion, String prefix) {
+        return getWordStarts(completion.normalized).stream()
+                .anyMatch(start -> completion.normalized.startsWith(prefix, start));
+    }
+
+    private List<Integer> getWordStarts(String normalized) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1)))) {
+                starts.add(i);
+            }
+        }
+        return starts;
+    }
+
+    private static final class Completion {
+        private final String key;
+        private final String normalized;
+        private final String text;
+        private final SuggestionType type;
+        private int weight;
+
+        private Completion(String key, String normalized, String text, SuggestionType type) {
+            this.key = key;
+            this.normalized = normalized;
+            this.text = text;
+            this.type = type;
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private String label;
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private List<Completion> terminals = new ArrayList<>(0);
+        private List<Completion> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private boolean isEmpty() {
+            return terminals.isEmpty() && children.length == 0;
+        }
+
+        private Node getChild(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position < 0 ? null : children[position];
+        }
+
+        private void addChild(Node child) {
+            int position = -Arrays.binarySearch(keys, child.label.charAt(0)) - 1;
+            keys = insert(keys, position, child.label.charAt(0));
+            children = insert(children, position, child);
+        }
+
+        private void removeChild(Node child) {
+            int position = Arrays.binarySearch(keys, child.label.charAt(0));
+            keys = remove(keys, position);
+            children = remove(children, position);
+        }
+
+        private Node splitChild(Node child, int length) {
+            Node middle = new Node(child.label.substring(0, length));
+            child.label = child.label.substring(length);
+            middle.keys = new char[]{child.label.charAt(0)};
+            middle.children = new Node[]{child};
+            children[Arrays.binarySearch(keys, middle.label.charAt(0))] = middle;
+            return middle;
+        }
+
+        private void mergeWithOnlyChild() {
+            Node child = children[0];
+            label = label + child.label;
+            keys = child.keys;
+            children = child.children;
+            terminals = child.terminals;
+            top = child.top;
+        }
+
+        private int commonPrefixLength(String key, int from) {
+            int length = Math.min(label.length(), key.length() - from);
+            int common = 0;
+            while (common < length && label.charAt(common) == key.charAt(from + common)) {
+                common++;
+            }
+            return common;
+        }
+
+        private void collectTerminals(Set<Completion> collected) {
+            collected.addAll(terminals);
+            for (Node child : children) {
+                child.collectTerminals(collected);
+            }
+        }
+
+        private void refreshTop(int maxSuggestions) {
+            Set<Completion> candidates = new LinkedHashSet<>(terminals);
+            for (Node child : children) {
+                candidates.addAll(child.top);
+            }
+            top = candidates.stream()
+                            .sorted(BY_WEIGHT)
+                            .limit(maxSuggestions)
+                            .toList();
+        }
+
+        private static char[] insert(char[] values, int position, char value) {
+            char[] result = new char[values.length + 1];
+            System.arraycopy(values, 0, result, 0, position);
+            result[position] = value;
+            System.arraycopy(values, position, result, position + 1, values.length - position);
+            return result;
+        }
+
+        private static Node[] insert(Node[] values, int position, Node value) {
+            Node[] result = new Node[values.length + 1];
+            System.arraycopy(values, 0, result, 0, position);
+            result[position] = value;
+            System.arraycopy(values, position, result, position + 1, values.length - position);
+            return result;
+        }
+
+        private static char[] remove(char[] values, int position) {
+            char[] result = new char[values.length - 1];
+            System.arraycopy(values, 0, result, 0, position);
+            System.arraycopy(values, position + 1, result, position, result.length - position);
+            return result;
+        }
+
+        private static Node[] remove(Node[] values, int position) {
+            Node[] result = new Node[values.length - 1];
+            System.arraycopy(values, 0, result, 0, position);
+            System.arraycopy(values, position + 1, result, position, result.length - position);
+            return result;
+        }
+    }
+}
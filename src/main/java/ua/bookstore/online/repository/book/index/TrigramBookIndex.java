@@ -0,0 +1,152 @@
+package ua.bookstore.online.repository.book.index;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.repository.book.BookSearchParameter;
+
+@Component
+public class TrigramBookIndex implements BookIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int CHAR_BITS = 16;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private final Map<BookSearchParameter, FieldIndex> fieldIndexes =
+            new EnumMap<>(BookSearchParameter.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TrigramBookIndex() {
+        fieldIndexes.put(BookSearchParameter.TITLE, new FieldIndex());
+        fieldIndexes.put(BookSearchParameter.AUTHOR, new FieldIndex());
+        fieldIndexes.put(BookSearchParameter.ISBN, new FieldIndex());
+    }
+
+    public static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public IdBitmap search(BookSearchParameter parameter, String[] terms) {
+        FieldIndex fieldIndex = fieldIndexes.get(parameter);
+        lock.readLock().lock();
+        try {
+            IdBitmap result = new IdBitmap();
+            for (String term : terms) {
+                result = result.or(fieldIndex.find(normalize(term)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(BookDto book) {
+        int id = Math.toIntExact(book.id());
+        lock.writeLock().lock();
+        try {
+            fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(id));
+            fieldIndexes.get(BookSearchParameter.TITLE).add(id, book.title());
+            fieldIndexes.get(BookSearchParameter.AUTHOR).add(id, book.author());
+            fieldIndexes.get(BookSearchParameter.ISBN).add(id, book.isbn());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(Math.toIntExact(id)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            fieldIndexes.values().forEach(FieldIndex::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long gram(String value, int start) {
+        return (long) value.charAt(start) << CHAR_BITS * 2
+                | (long) value.charAt(start + 1) << CHAR_BITS
+                | value.charAt(start + 2);
+    }
+
+    private static final class FieldIndex {
+        private final Map<Long, IdBitmap> postings = new HashMap<>();
+        private final Map<Integer, String> values = new HashMap<>();
+
+        private void add(int id, String value) {
+            if (value == null) {
+                return;
+            }
+            String normalized = normalize(value);
+            values.put(id, normalized);
+            for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                postings.computeIfAbsent(gram(normalized, i), key -> new IdBitmap()).add(id);
+            }
+        }
+
+        private void remove(int id) {
+            String normalized = values.remove(id);
+            if (normalized == null) {
+                return;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                long gram = gram(normalized, i);
+                IdBitmap bitmap = postings.get(gram);
+                if (bitmap != null) {
+                    bitmap.remove(id);
+                    if (bitmap.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        private IdBitmap find(String term) {
+            IdBitmap result = new IdBitmap();
+            if (term.length() < GRAM_LENGTH) {
+                values.forEach((id, value) -> {
+                    if (value.contains(term)) {
+                        result.add(id);
+                    }
+                });
+                return result;
+            }
+            IdBitmap candidates = null;
+            for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+                IdBitmap bitmap = postings.get(gram(term, i));
+                if (bitmap == null) {
+                    return result;
+                }
+                candidates = candidates == null ? bitmap : candidates.and(bitmap);
+            }
+            candidates.forEach(id -> {
+                if (values.get(id).contains(term)) {
+                    result.add(id);
+                }
+            });
+            return result;
+        }
+
+        private void clear() {
+            postings.clear();
+            values.clear();
+        }
+    }
+}
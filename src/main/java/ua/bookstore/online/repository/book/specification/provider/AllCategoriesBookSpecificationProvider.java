@@ -0,0 +1,44 @@
+package ua.bookstore.online.repository.book.specification.provider;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import ua.bookstore.online.model.Book;
+import ua.bookstore.online.model.Category;
+import ua.bookstore.online.repository.book.BookSearchParameter;
+
+@Component
+public class AllCategoriesBookSpecificationProvider
+        extends AbstractBookSpecificationProvider<Book> {
+    public static final String ALL_CATEGORIES = "allCategories";
+    private static final String ID = "id";
+
+    private AllCategoriesBookSpecificationProvider() {
+        super(ALL_CATEGORIES);
+    }
+
+    @Override
+    public Specification<Book> getSpecification(String[] params) {
+        List<Long> categoryIds = Arrays.stream(params)
+                                       .map(Long::parseLong)
+                                       .distinct()
+                                       .toList();
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Long> bookIds = query.subquery(Long.class);
+            Root<Book> book = bookIds.from(Book.class);
+            Join<Book, Category> categoryJoin =
+                    book.join(BookSearchParameter.CATEGORY.getName());
+            bookIds.select(book.get(ID))
+                   .where(categoryJoin.get(ID).in(categoryIds))
+                   .groupBy(book.get(ID))
+                   .having(criteriaBuilder.equal(
+                           criteriaBuilder.countDistinct(categoryJoin.get(ID)),
+                           (long) categoryIds.size()));
+            return root.get(ID).in(bookIds);
+        };
+    }
+}
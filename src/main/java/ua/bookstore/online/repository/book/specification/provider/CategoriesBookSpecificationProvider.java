@@ -1,7 +1,8 @@
 package ua.bookstore.online.repository.book.specification.provider;
 
 import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.util.Arrays;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,8 @@ import ua.bookstore.online.repository.book.BookSearchParameter;
 
 @Component
 public class CategoriesBookSpecificationProvider extends AbstractBookSpecificationProvider<Book> {
+    private static final String ID = "id";
+
     private CategoriesBookSpecificationProvider() {
         super(BookSearchParameter.CATEGORY.getName());
     }
@@ -18,10 +21,14 @@ public class CategoriesBookSpecificationProvider extends AbstractBookSpecificati
     @Override
     public Specification<Book> getSpecification(String[] params) {
         return (root, query, criteriaBuilder) -> {
-            Join<Book, Category> categoryJoin = root.join("categories", JoinType.INNER);
-            return categoryJoin.get("id").in(Arrays.stream(params)
-                                                              .map(Long::parseLong)
-                                                              .toArray());
+            Subquery<Long> bookIds = query.subquery(Long.class);
+            Root<Book> book = bookIds.from(Book.class);
+            Join<Book, Category> categoryJoin = book.join(getSearchParameter());
+            bookIds.select(book.get(ID))
+                   .where(categoryJoin.get(ID).in(Arrays.stream(params)
+                                                        .map(Long::parseLong)
+                                                        .toList()));
+            return root.get(ID).in(bookIds);
         };
     }
 }
@@ -1,5 +1,6 @@
 package ua.bookstore.online.repository.book.specification.provider;
 
+import java.math.BigDecimal;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import ua.bookstore.online.model.Book;
@@ -19,6 +20,6 @@ public class PriceBookSpecificationProvider extends AbstractBookSpecificationPro
     public Specification<Book> getSpecification(String[] params) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.between(root.get(searchParameter),
-                        params[MIN_PRICE], params[MAX_PRICE]);
+                        new BigDecimal(params[MIN_PRICE]), new BigDecimal(params[MAX_PRICE]));
     }
 }
@@ -1,9 +1,23 @@
 package ua.bookstore.online.repository.category;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ua.bookstore.online.model.Category;
+import ua.bookstore.online.repository.TableVersion;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Set<Category> findAllByIdIn(Set<Long> ids);
+
+    @Query("SELECT c.id FROM Category c")
+    Set<Long> findAllIds();
+
+    @Query("SELECT c.updatedAt FROM Category c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    @Query("SELECT new ua.bookstore.online.repository.TableVersion(COUNT(c), MAX(c.updatedAt))"
+            + " FROM Category c")
+    TableVersion findTableVersion();
 }
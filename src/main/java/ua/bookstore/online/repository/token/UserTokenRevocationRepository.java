@@ -0,0 +1,16 @@
+package ua.bookstore.online.repository.token;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ua.bookstore.online.model.UserTokenRevocation;
+
+public interface UserTokenRevocationRepository extends JpaRepository<UserTokenRevocation, Long> {
+    List<UserTokenRevocation> findAllByExpiresAtAfter(LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM UserTokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
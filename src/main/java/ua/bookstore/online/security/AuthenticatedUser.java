@@ -0,0 +1,34 @@
+package ua.bookstore.online.security;
+
+import java.security.Principal;
+import java.util.Collection;
+import org.springframework.security.core.GrantedAuthority;
+import ua.bookstore.online.model.User;
+
+public record AuthenticatedUser(
+        Long id,
+        String email,
+        Collection<? extends GrantedAuthority> authorities
+) implements Principal {
+    public static User toUser(Object principal) {
+        if (principal instanceof User user) {
+            return user;
+        }
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.toUserReference();
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public User toUserReference() {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}
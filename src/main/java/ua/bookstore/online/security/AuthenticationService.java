@@ -1,25 +1,59 @@
 package ua.bookstore.online.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.bookstore.online.dto.user.RefreshTokenRequestDto;
 import ua.bookstore.online.dto.user.UserLoginRequestDto;
 import ua.bookstore.online.dto.user.UserLoginResponseDto;
+import ua.bookstore.online.exception.EntityNotFoundException;
+import ua.bookstore.online.model.User;
+import ua.bookstore.online.repository.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 public class AuthenticationService {
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final UserRepository userRepository;
 
     public UserLoginResponseDto authenticate(UserLoginRequestDto requestDto) {
         final Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         requestDto.email(), requestDto.password()));
 
-        String generatedToken = jwtUtil.generateToken(authentication.getName());
-        return new UserLoginResponseDto(generatedToken);
+        User user = (User) authentication.getPrincipal();
+        String generatedToken = jwtUtil.generateToken(user);
+        return new UserLoginResponseDto(generatedToken, refreshTokenService.issue(user));
+    }
+
+    public UserLoginResponseDto refresh(RefreshTokenRequestDto requestDto) {
+        IssuedRefreshToken refreshToken = refreshTokenService.rotate(requestDto.refreshToken());
+        String generatedToken = jwtUtil.generateToken(refreshToken.user());
+        return new UserLoginResponseDto(generatedToken, refreshToken.token());
+    }
+
+    public void logout(Authentication authentication) {
+        if (!(authentication.getCredentials() instanceof VerifiedToken verifiedToken)) {
+            throw new AuthenticationCredentialsNotFoundException("Bearer token is required");
+        }
+        tokenRevocationStore.revoke(verifiedToken.tokenId(), verifiedToken.expiresAt());
+        refreshTokenService.revokeAll(
+                AuthenticatedUser.toUser(authentication.getPrincipal()).getId());
+    }
+
+    @Transactional
+    public void logoutUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found by id " + userId);
+        }
+        tokenRevocationStore.revokeUser(userId);
+        refreshTokenService.revokeAll(userId);
     }
 }
@@ -0,0 +1,18 @@
+package ua.bookstore.online.security;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Parameter(hidden = true)
+@AuthenticationPrincipal(
+        expression = "T(ua.bookstore.online.security.AuthenticatedUser).toUser(#this)")
+public @interface CurrentUser {
+}
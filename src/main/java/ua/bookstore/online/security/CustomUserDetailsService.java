@@ -1,21 +1,48 @@
 package ua.bookstore.online.security;
 
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.event.UserChangedEvent;
+import ua.bookstore.online.model.User;
 import ua.bookstore.online.repository.user.UserRepository;
 
 @RequiredArgsConstructor
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final ExpiringCache<String, User> userDetailsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userDetailsCache.get(email.toLowerCase(Locale.ROOT),
+                key -> userRepository.findByEmail(email)
+                                     .orElseThrow(() -> new UsernameNotFoundException(
+                                             "Can't find user by email" + email)));
+    }
+
+    @Transactional
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+        userDetailsCache.invalidate(user.getUsername().toLowerCase(Locale.ROOT));
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+        return userRepository.findByEmail(user.getUsername())
                              .orElseThrow(() -> new UsernameNotFoundException(
-                                     "Can't find user by email" + email));
+                                     "Can't find user by email" + user.getUsername()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        userDetailsCache.invalidate(event.email().toLowerCase(Locale.ROOT));
     }
 }
@@ -0,0 +1,6 @@
+package ua.bookstore.online.security;
+
+import ua.bookstore.online.model.User;
+
+public record IssuedRefreshToken(String token, User user) {
+}
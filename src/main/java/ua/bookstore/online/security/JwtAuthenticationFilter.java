@@ -6,9 +6,12 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -22,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String TOKEN_TYPE = "Bearer ";
     private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     protected void doFilterInternal(
@@ -29,18 +33,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        String token = getToken(request);
-        if (jwtUtil.isValidToken(token)) {
-            String userName = jwtUtil.getUserName(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userName);
-            Authentication authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null,
-                            userDetails.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+        jwtUtil.verify(getToken(request))
+               .filter(verifiedToken -> !tokenRevocationStore.isRevoked(verifiedToken))
+               .map(this::toAuthentication)
+               .ifPresent(SecurityContextHolder.getContext()::setAuthentication);
         filterChain.doFilter(request, response);
     }
 
+    private Authentication toAuthentication(VerifiedToken verifiedToken) {
+        if (!verifiedToken.hasUserClaims()) {
+            UserDetails userDetails =
+                    userDetailsService.loadUserByUsername(verifiedToken.subject());
+            return new UsernamePasswordAuthenticationToken(userDetails, verifiedToken,
+                    userDetails.getAuthorities());
+        }
+        List<GrantedAuthority> authorities =
+                AuthorityUtils.createAuthorityList(verifiedToken.roles());
+        return new UsernamePasswordAuthenticationToken(new AuthenticatedUser(
+                verifiedToken.userId(), verifiedToken.subject(), authorities), verifiedToken,
+                authorities);
+    }
+
     private String getToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (!StringUtils.isNullOrEmpty(bearerToken) && bearerToken.startsWith(TOKEN_TYPE)) {
@@ -1,56 +1,78 @@
 package ua.bookstore.online.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.model.User;
 
 @Component
 public class JwtUtil {
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
     private final SecretKey secret;
+    private final JwtParser parser;
+    private final ExpiringCache<String, VerifiedToken> verifiedTokenCache;
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private JwtUtil(@Value("${jwt.secret}") String secretString) {
+    JwtUtil(
+            @Value("${jwt.secret}") String secretString,
+            ExpiringCache<String, VerifiedToken> verifiedTokenCache
+    ) {
         this.secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                          .verifyWith(secret)
+                          .build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
-    public String generateToken(String userName) {
+    public String generateToken(User user) {
         return Jwts.builder()
-                   .subject(userName)
+                   .id(UUID.randomUUID().toString())
+                   .subject(user.getUsername())
+                   .claim(USER_ID_CLAIM, user.getId())
+                   .claim(ROLES_CLAIM, user.getAuthorities().stream()
+                                           .map(GrantedAuthority::getAuthority)
+                                           .toList())
                    .issuedAt(new Date())
                    .expiration(new Date(System.currentTimeMillis() + expiration))
                    .signWith(secret)
                    .compact();
     }
 
-    public boolean isValidToken(String token) {
+    public Optional<VerifiedToken> verify(String token) {
         if (token == null) {
-            return false;
+            return Optional.empty();
         }
-        final Jws<Claims> claims = Jwts.parser()
-                                       .verifyWith(secret)
-                                       .build()
-                .parseSignedClaims(token);
-        return claims.getPayload().getExpiration().after(new Date());
-    }
-
-    public String getUserName(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        String digest = TokenDigests.sha256(token);
+        Optional<VerifiedToken> cached = verifiedTokenCache.get(digest);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        VerifiedToken verifiedToken = new VerifiedToken(claims.getId(), claims.getSubject(),
+                claims.get(USER_ID_CLAIM, Long.class), getRoles(claims),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
+        verifiedTokenCache.put(digest, verifiedToken, verifiedToken.expiresAt());
+        return Optional.of(verifiedToken);
     }
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parser()
-                .verifyWith(secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claimsResolver.apply(claims);
+    private static List<String> getRoles(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return roles == null ? null : roles.stream()
+                                           .map(String::valueOf)
+                                           .toList();
     }
 }
@@ -0,0 +1,86 @@
+package ua.bookstore.online.security;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.bookstore.online.exception.InvalidRefreshTokenException;
+import ua.bookstore.online.model.RefreshToken;
+import ua.bookstore.online.model.User;
+import ua.bookstore.online.repository.token.RefreshTokenRepository;
+
+@Slf4j
+@Service
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_TOKEN = "Invalid refresh token";
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration expiration;
+
+    RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh.expiration:30d}") Duration expiration
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expiration = expiration;
+    }
+
+    @Transactional
+    public String issue(User user) {
+        return save(user, UUID.randomUUID().toString());
+    }
+
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public IssuedRefreshToken rotate(String token) {
+        RefreshToken refreshToken = refreshTokenRepository
+                .findByTokenHash(TokenDigests.sha256(token))
+                .orElseThrow(() -> new InvalidRefreshTokenException(INVALID_TOKEN));
+        if (refreshToken.isRevoked()
+                || refreshToken.getUser() == null
+                || refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException(INVALID_TOKEN);
+        }
+        if (refreshToken.isUsed() || refreshTokenRepository.markUsed(refreshToken.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            log.warn("Refresh token reuse detected for user {}, family {} revoked",
+                    refreshToken.getUser().getId(), refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException(INVALID_TOKEN);
+        }
+        User user = refreshToken.getUser();
+        return new IssuedRefreshToken(save(user, refreshToken.getFamilyId()), user);
+    }
+
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    @Transactional
+    @Scheduled(cron = "${jwt.refresh.cleanup-cron:0 0 * * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String save(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(TokenDigests.sha256(token));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setUser(user);
+        refreshToken.setExpiresAt(LocalDateTime.now().plus(expiration));
+        refreshTokenRepository.save(refreshToken);
+        return token;
+    }
+}
@@ -0,0 +1,178 @@
+package ua.bookstore.online.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.bookstore.online.event.TokenRevokedEvent;
+import ua.bookstore.online.event.UserTokensRevokedEvent;
+import ua.bookstore.online.model.RevokedToken;
+import ua.bookstore.online.model.UserTokenRevocation;
+import ua.bookstore.online.repository.token.RevokedTokenRepository;
+import ua.bookstore.online.repository.token.UserTokenRevocationRepository;
+
+@Slf4j
+@Component
+public class TokenRevocationStore {
+    private final Set<String> revokedTokenIds = ConcurrentHashMap.newKeySet();
+    private final PriorityQueue<Revocation> expiryQueue =
+            new PriorityQueue<>(Comparator.comparing(Revocation::expiresAt));
+    private final Map<Long, UserRevocation> revokedUsers = new ConcurrentHashMap<>();
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenRevocationRepository userTokenRevocationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration accessTokenLifetime;
+    private final Clock clock;
+
+    @Autowired
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+            UserTokenRevocationRepository userTokenRevocationRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${jwt.expiration}") long expiration) {
+        this(revokedTokenRepository, userTokenRevocationRepository, eventPublisher,
+                Duration.ofMillis(expiration), Clock.systemDefaultZone());
+    }
+
+    TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+            UserTokenRevocationRepository userTokenRevocationRepository,
+            ApplicationEventPublisher eventPublisher, Duration accessTokenLifetime,
+            Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userTokenRevocationRepository = userTokenRevocationRepository;
+        this.eventPublisher = eventPublisher;
+        this.accessTokenLifetime = accessTokenLifetime;
+        this.clock = clock;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        return isRevoked(token.tokenId()) || isRevokedForUser(token);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedTokenIds.contains(tokenId);
+    }
+
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(clock.instant()) || isRevoked(tokenId)) {
+            return;
+        }
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenId(tokenId);
+        revokedToken.setExpiresAt(toDateTime(expiresAt));
+        revokedTokenRepository.save(revokedToken);
+        eventPublisher.publishEvent(new TokenRevokedEvent(tokenId, expiresAt));
+    }
+
+    /**
+     * Revokes every access token issued to the user up to now, truncated to whole seconds
+     * like the {@code iat} claim.
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        Instant revokedBefore = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = clock.instant().plus(accessTokenLifetime);
+        UserTokenRevocation revocation = new UserTokenRevocation();
+        revocation.setUserId(userId);
+        revocation.setRevokedBefore(toDateTime(revokedBefore));
+        revocation.setExpiresAt(toDateTime(expiresAt));
+        userTokenRevocationRepository.save(revocation);
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(userId, revokedBefore, expiresAt));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        add(event.tokenId(), event.expiresAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        add(event.userId(), new UserRevocation(event.revokedBefore(), event.expiresAt()));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:5000}")
+    public void poll() {
+        Instant now = clock.instant();
+        for (RevokedToken revokedToken
+                : revokedTokenRepository.findAllByExpiresAtAfter(toDateTime(now))) {
+            add(revokedToken.getTokenId(),
+                    toInstant(revokedToken.getExpiresAt()));
+        }
+        for (UserTokenRevocation revocation
+                : userTokenRevocationRepository.findAllByExpiresAtAfter(toDateTime(now))) {
+            add(revocation.getUserId(), new UserRevocation(
+                    toInstant(revocation.getRevokedBefore()),
+                    toInstant(revocation.getExpiresAt())));
+        }
+        evictExpired(now);
+        int deleted = revokedTokenRepository.deleteExpired(toDateTime(now))
+                + userTokenRevocationRepository.deleteExpired(toDateTime(now));
+        if (deleted > 0) {
+            log.info("Deleted {} expired token revocations", deleted);
+        }
+    }
+
+    public int size() {
+        return revokedTokenIds.size();
+    }
+
+    private void add(String tokenId, Instant expiresAt) {
+        synchronized (expiryQueue) {
+            if (revokedTokenIds.add(tokenId)) {
+                expiryQueue.offer(new Revocation(tokenId, expiresAt));
+            }
+        }
+    }
+
+    private void add(Long userId, UserRevocation revocation) {
+        revokedUsers.merge(userId, revocation, (current, added) ->
+                added.revokedBefore().isAfter(current.revokedBefore()) ? added : current);
+    }
+
+    private boolean isRevokedForUser(VerifiedToken token) {
+        UserRevocation revocation = token.userId() == null
+                ? null
+                : revokedUsers.get(token.userId());
+        return revocation != null
+                && (token.issuedAt() == null
+                || !token.issuedAt().isAfter(revocation.revokedBefore()));
+    }
+
+    private void evictExpired(Instant now) {
+        synchronized (expiryQueue) {
+            while (!expiryQueue.isEmpty() && !expiryQueue.peek().expiresAt().isAfter(now)) {
+                revokedTokenIds.remove(expiryQueue.poll().tokenId());
+            }
+        }
+        revokedUsers.values().removeIf(revocation -> !revocation.expiresAt().isAfter(now));
+    }
+
+    private LocalDateTime toDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, clock.getZone());
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant();
+    }
+
+    private record Revocation(String tokenId, Instant expiresAt) {
+    }
+
+    private record UserRevocation(Instant revokedBefore, Instant expiresAt) {
+    }
+}
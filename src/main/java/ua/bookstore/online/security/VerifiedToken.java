@@ -0,0 +1,17 @@
+package ua.bookstore.online.security;
+
+import java.time.Instant;
+import java.util.List;
+
+public record VerifiedToken(
+        String tokenId,
+        String subject,
+        Long userId,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public boolean hasUserClaims() {
+        return userId != null && roles != null;
+    }
+}
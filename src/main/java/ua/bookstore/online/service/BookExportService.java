@@ -0,0 +1,9 @@
+package ua.bookstore.online.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import ua.bookstore.online.dto.book.BookExportFormat;
+
+public interface BookExportService {
+    void export(BookExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,9 @@
+package ua.bookstore.online.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import ua.bookstore.online.dto.book.BookImportResultDto;
+
+public interface BookImportService {
+    BookImportResultDto importBooks(InputStream inputStream) throws IOException;
+}
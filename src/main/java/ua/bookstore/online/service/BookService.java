@@ -2,8 +2,13 @@ package ua.bookstore.online.service;
 
 import java.util.List;
 import org.springframework.data.domain.Pageable;
+import ua.bookstore.online.dto.book.BookBatchDto;
+import ua.bookstore.online.dto.book.BookCursorPageDto;
 import ua.bookstore.online.dto.book.BookDto;
 import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
+import ua.bookstore.online.dto.book.BookFacetedSearchDto;
+import ua.bookstore.online.dto.book.BookSearchResultDto;
+import ua.bookstore.online.dto.book.BookSuggestionDto;
 import ua.bookstore.online.dto.book.CreateBookRequestDto;
 import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
 import ua.bookstore.online.model.Book;
@@ -13,11 +18,32 @@ public interface BookService {
 
     List<BookDto> getAll(Pageable pageable);
 
+    BookCursorPageDto getAllByCursor(String cursor, int size);
+
     BookDto getById(Long id);
 
+    String getETag(Long id);
+
+    String getCatalogETag();
+
+    BookBatchDto getByIds(List<Long> ids);
+
     List<BookDto> getByParameters(BookSearchParameters searchParameters,
             Pageable pageable);
 
+    BookFacetedSearchDto getByParametersWithFacets(BookSearchParameters searchParameters,
+            Pageable pageable);
+
+    BookSearchResultDto getSliceByParameters(BookSearchParameters searchParameters,
+            Pageable pageable, boolean withTotal);
+
+    BookCursorPageDto getByParametersByCursor(BookSearchParameters searchParameters,
+            String cursor, int size);
+
+    List<BookDto> getRanked(String query, int size);
+
+    List<BookSuggestionDto> suggest(String prefix, int limit);
+
     BookDto update(Long id, CreateBookRequestDto bookRequestDto);
 
     void delete(Long id);
@@ -0,0 +1,8 @@
+package ua.bookstore.online.service;
+
+import java.util.List;
+import ua.bookstore.online.dto.cache.CacheStatsDto;
+
+public interface CacheService {
+    List<CacheStatsDto> getStats();
+}
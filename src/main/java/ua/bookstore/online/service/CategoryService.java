@@ -11,6 +11,10 @@ public interface CategoryService {
 
     CategoryResponseDto getById(Long id);
 
+    String getETag(Long id);
+
+    String getCatalogETag();
+
     CategoryResponseDto save(CategoryRequestDto categoryDto);
 
     CategoryResponseDto update(Long id, CategoryRequestDto categoryDto);
@@ -18,4 +22,6 @@ public interface CategoryService {
     void deleteById(Long id);
 
     Set<Long> getAllExistedCategoryIdsFromIds(Set<Long> ids);
+
+    Set<Long> getAllCategoryIds();
 }
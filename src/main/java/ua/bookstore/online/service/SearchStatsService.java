@@ -0,0 +1,8 @@
+package ua.bookstore.online.service;
+
+import java.util.List;
+import ua.bookstore.online.dto.search.SearchQueryStatsDto;
+
+public interface SearchStatsService {
+    List<SearchQueryStatsDto> getSlowestQueries(int limit);
+}
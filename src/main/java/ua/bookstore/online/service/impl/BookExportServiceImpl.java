@@ -0,0 +1,73 @@
+package ua.bookstore.online.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookExportFormat;
+import ua.bookstore.online.repository.book.BookExportRepository;
+import ua.bookstore.online.service.BookExportService;
+
+@RequiredArgsConstructor
+@Service
+public class BookExportServiceImpl implements BookExportService {
+    private static final String CSV_HEADER =
+            "id,title,author,isbn,price,description,cover_image,category_ids";
+    private static final String CATEGORY_SEPARATOR = ";";
+    private final BookExportRepository bookExportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void export(BookExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == BookExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try {
+            bookExportRepository.forEachBook(book -> write(writer, format, book));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void write(Writer writer, BookExportFormat format, BookDto book) {
+        try {
+            writer.write(format == BookExportFormat.CSV
+                    ? toCsv(book) : objectMapper.writeValueAsString(book));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toCsv(BookDto book) {
+        String categoryIds = book.categoryIds().stream()
+                                 .map(String::valueOf)
+                                 .collect(Collectors.joining(CATEGORY_SEPARATOR));
+        return Stream.of(book.id(), book.title(), book.author(), book.isbn(), book.price(),
+                             book.description(), book.coverImage(), categoryIds)
+                     .map(value -> escapeCsv(Objects.toString(value, "")))
+                     .collect(Collectors.joining(","));
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,194 @@
+package ua.bookstore.online.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookImportErrorDto;
+import ua.bookstore.online.dto.book.BookImportResultDto;
+import ua.bookstore.online.dto.book.CreateBookRequestDto;
+import ua.bookstore.online.event.BooksImportedEvent;
+import ua.bookstore.online.repository.book.BookImportRepository;
+import ua.bookstore.online.service.BookImportService;
+import ua.bookstore.online.service.CategoryService;
+
+@Service
+public class BookImportServiceImpl implements BookImportService {
+    private final BookImportRepository bookImportRepository;
+    private final CategoryService categoryService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public BookImportServiceImpl(
+            BookImportRepository bookImportRepository,
+            CategoryService categoryService,
+            ObjectMapper objectMapper,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${book.import.batch-size:1000}") int batchSize
+    ) {
+        this.bookImportRepository = bookImportRepository;
+        this.categoryService = categoryService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BookImportResultDto importBooks(InputStream inputStream) throws IOException {
+        Set<Long> categoryIds = categoryService.getAllCategoryIds();
+        Set<String> isbns = new HashSet<>();
+        List<BookImportErrorDto> errors = new ArrayList<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        int imported = 0;
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ImportRow row = parse(lineNumber, line, errors);
+            if (row == null || !isValid(row, categoryIds, errors)) {
+                continue;
+            }
+            if (!isbns.add(normalizeIsbn(row.book().isbn()))) {
+                errors.add(row.error("Duplicate ISBN in file: " + row.book().isbn()));
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                imported += saveBatch(batch, errors);
+                batch.clear();
+            }
+        }
+        imported += saveBatch(batch, errors);
+        return new BookImportResultDto(imported, errors);
+    }
+
+    private ImportRow parse(long lineNumber, String line, List<BookImportErrorDto> errors) {
+        String error;
+        try {
+            CreateBookRequestDto book = objectMapper.readValue(line, CreateBookRequestDto.class);
+            if (book != null) {
+                return new ImportRow(lineNumber, book);
+            }
+            error = "Malformed book: empty record";
+        } catch (JsonProcessingException e) {
+            error = "Malformed book: " + e.getOriginalMessage();
+        }
+        errors.add(new BookImportErrorDto(lineNumber, null, error));
+        return null;
+    }
+
+    private boolean isValid(ImportRow row, Set<Long> categoryIds,
+            List<BookImportErrorDto> errors) {
+        Set<ConstraintViolation<CreateBookRequestDto>> violations = validator.validate(row.book());
+        if (!violations.isEmpty()) {
+            errors.add(row.error(violations.stream()
+                                           .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                                           .sorted()
+                                           .collect(Collectors.joining(", "))));
+            return false;
+        }
+        List<Long> notExistedIds = row.book().categoryIds().stream()
+                                      .filter(id -> !categoryIds.contains(id))
+                                      .toList();
+        if (!notExistedIds.isEmpty()) {
+            errors.add(row.error("Can't find categories with ids: " + notExistedIds));
+            return false;
+        }
+        return true;
+    }
+
+    private int saveBatch(List<ImportRow> batch, List<BookImportErrorDto> errors) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Set<String> existingIsbns = bookImportRepository.findExistingIsbns(batch.stream()
+                        .map(row -> row.book().isbn())
+                        .toList()).stream()
+                .map(this::normalizeIsbn)
+                .collect(Collectors.toSet());
+        List<ImportRow> newRows = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (existingIsbns.contains(normalizeIsbn(row.book().isbn()))) {
+                errors.add(row.error("Non uniq ISBN: " + row.book().isbn()));
+            } else {
+                newRows.add(row);
+            }
+        }
+        if (newRows.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.execute(status -> save(newRows));
+        } catch (DataAccessException e) {
+            String error = "Can't save book: " + e.getMostSpecificCause().getMessage();
+            newRows.forEach(row -> errors.add(row.error(error)));
+            return 0;
+        }
+        return newRows.size();
+    }
+
+    private List<Long> save(List<ImportRow> rows) {
+        List<CreateBookRequestDto> books = rows.stream()
+                                               .map(ImportRow::book)
+                                               .toList();
+        List<Long> ids = bookImportRepository.saveAll(books);
+        List<BookDto> saved = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            saved.add(toDto(ids.get(i), books.get(i)));
+        }
+        eventPublisher.publishEvent(new BooksImportedEvent(saved));
+        return ids;
+    }
+
+    private BookDto toDto(Long id, CreateBookRequestDto book) {
+        return BookDto.builder()
+                      .id(id)
+                      .categoryIds(book.categoryIds())
+                      .title(book.title())
+                      .author(book.author())
+                      .isbn(book.isbn())
+                      .price(book.price())
+                      .description(book.description())
+                      .coverImage(book.coverImage())
+                      .build();
+    }
+
+    private String normalizeIsbn(String isbn) {
+        return isbn.toLowerCase(Locale.ROOT);
+    }
+
+    private record ImportRow(long line, CreateBookRequestDto book) {
+        BookImportErrorDto error(String error) {
+            return new BookImportErrorDto(line, book.isbn(), error);
+        }
+    }
+}
@@ -1,32 +1,66 @@
 package ua.bookstore.online.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ua.bookstore.online.cache.BookSearchCache;
+import ua.bookstore.online.cache.CatalogSnapshotHolder;
+import ua.bookstore.online.cache.CatalogVersions;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.dto.book.BookBatchDto;
+import ua.bookstore.online.dto.book.BookCursorPageDto;
 import ua.bookstore.online.dto.book.BookDto;
 import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
+import ua.bookstore.online.dto.book.BookFacetedSearchDto;
+import ua.bookstore.online.dto.book.BookSearchResultDto;
+import ua.bookstore.online.dto.book.BookSuggestionDto;
 import ua.bookstore.online.dto.book.CreateBookRequestDto;
 import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.event.BookDeletedEvent;
+import ua.bookstore.online.event.BookSavedEvent;
 import ua.bookstore.online.exception.EntityNotFoundException;
 import ua.bookstore.online.exception.UniqueIsbnException;
 import ua.bookstore.online.mapper.BookMapper;
 import ua.bookstore.online.model.Book;
+import ua.bookstore.online.monitoring.BookSearchMonitor;
+import ua.bookstore.online.repository.ResourceVersion;
+import ua.bookstore.online.repository.book.BookCursor;
 import ua.bookstore.online.repository.book.BookRepository;
+import ua.bookstore.online.repository.book.BookSearchJdbcRepository;
+import ua.bookstore.online.repository.book.BookSearchKey;
 import ua.bookstore.online.repository.book.BookSpecificationBuilder;
+import ua.bookstore.online.repository.book.index.BookSearchIndex;
+import ua.bookstore.online.repository.book.index.IdBitmap;
 import ua.bookstore.online.service.BookService;
 import ua.bookstore.online.service.CategoryService;
 
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
+    private static final String ID = "id";
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final BookSpecificationBuilder bookSpecificationBuilder;
     private final CategoryService categoryService;
+    private final ExpiringCache<BookSearchKey, Long> bookSearchCountCache;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSearchCache bookSearchCache;
+    private final BookSearchJdbcRepository bookSearchJdbcRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final CatalogVersions catalogVersions;
+    private final BookSearchMonitor bookSearchMonitor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -36,19 +70,70 @@ public class BookServiceImpl implements BookService {
         }
         validateCategories(bookRequestDto);
         Book book = bookMapper.toModel(bookRequestDto);
-        return bookMapper.toDto(bookRepository.save(book));
+        BookDto savedBook = bookMapper.toDto(bookRepository.save(book));
+        eventPublisher.publishEvent(new BookSavedEvent(savedBook));
+        return savedBook;
     }
 
     @Override
     public List<BookDto> getAll(Pageable pageable) {
-        return bookRepository.findAllBooks(pageable).stream()
-                             .map(bookMapper::toDto)
-                             .toList();
+        Pageable sortedPageable = withIdTieBreaker(pageable);
+        return catalogSnapshotHolder.getSnapshot()
+                .flatMap(snapshot -> snapshot.findBooks(sortedPageable))
+                .orElseGet(() -> getBooksInOrder(bookRepository.findAllIds(sortedPageable))
+                        .stream()
+                        .map(bookMapper::toDto)
+                        .toList());
+    }
+
+    @Override
+    public BookCursorPageDto getAllByCursor(String cursor, int size) {
+        return getPageByCursor(Specification.where(null), cursor, size);
     }
 
     @Override
     public BookDto getById(Long id) {
-        return bookMapper.toDto(getBook(id));
+        return catalogSnapshotHolder.getSnapshot()
+                .map(snapshot -> snapshot.findBook(id).orElseThrow(
+                        () -> new EntityNotFoundException("Book not found by id " + id)))
+                .orElseGet(() -> bookMapper.toDto(getBook(id)));
+    }
+
+    @Override
+    public String getETag(Long id) {
+        return catalogSnapshotHolder.getSnapshot()
+                .map(snapshot -> snapshot.findBook(id)
+                        .map(book -> catalogVersions.getSnapshotETag(snapshot))
+                        .orElseThrow(() -> new EntityNotFoundException(
+                                "Book not found by id " + id)))
+                .orElseGet(() -> bookRepository.findUpdatedAtById(id)
+                        .map(updatedAt -> new ResourceVersion(updatedAt).toETag())
+                        .orElseThrow(() -> new EntityNotFoundException(
+                                "Book not found by id " + id)));
+    }
+
+    @Override
+    public String getCatalogETag() {
+        return catalogSnapshotHolder.getSnapshot()
+                .map(catalogVersions::getSnapshotETag)
+                .orElseGet(catalogVersions::getBooksETag);
+    }
+
+    @Override
+    public BookBatchDto getByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream()
+                                    .distinct()
+                                    .toList();
+        List<Book> books = getBooksInOrder(distinctIds);
+        Set<Long> foundIds = books.stream()
+                                  .map(Book::getId)
+                                  .collect(Collectors.toSet());
+        return new BookBatchDto(books.stream()
+                                     .map(bookMapper::toDto)
+                                     .toList(),
+                distinctIds.stream()
+                           .filter(id -> !foundIds.contains(id))
+                           .toList());
     }
 
     @Override
@@ -60,11 +145,52 @@ public class BookServiceImpl implements BookService {
     @Override
     public List<BookDto> getByParameters(
             BookSearchParameters bookSearchParameters, Pageable pageable) {
-        Specification<Book> bookSpecification =
-                bookSpecificationBuilder.build(bookSearchParameters);
-        return bookRepository.findAll(bookSpecification, pageable).stream()
-                             .map(bookMapper::toDto)
-                             .toList();
+        return bookSearchCache.getPage(bookSearchParameters, pageable,
+                () -> searchBooks(bookSearchParameters, pageable));
+    }
+
+    @Override
+    public BookFacetedSearchDto getByParametersWithFacets(
+            BookSearchParameters bookSearchParameters, Pageable pageable) {
+        return new BookFacetedSearchDto(getByParameters(bookSearchParameters, pageable),
+                bookSearchIndex.countFacets(bookSearchParameters).orElse(null));
+    }
+
+    @Override
+    public BookSearchResultDto getSliceByParameters(
+            BookSearchParameters bookSearchParameters, Pageable pageable, boolean withTotal) {
+        List<Long> ids = pageable.isUnpaged()
+                ? bookRepository.findIds(getSearchSpecification(bookSearchParameters), pageable)
+                : findIds(bookSearchParameters, withIdTieBreaker(pageable.getSort()),
+                        pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = pageable.isPaged() && ids.size() > pageable.getPageSize();
+        List<Long> pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+        List<BookDto> books = getBooksInOrder(pageIds).stream()
+                                                      .map(bookMapper::toDto)
+                                                      .toList();
+        Long estimatedTotal = withTotal
+                ? bookSearchCountCache.get(BookSearchKey.of(bookSearchParameters),
+                        key -> countIds(bookSearchParameters))
+                : null;
+        return new BookSearchResultDto(books, hasNext, estimatedTotal);
+    }
+
+    @Override
+    public BookCursorPageDto getByParametersByCursor(
+            BookSearchParameters bookSearchParameters, String cursor, int size) {
+        return getPageByCursor(getSearchSpecification(bookSearchParameters), cursor, size);
+    }
+
+    @Override
+    public List<BookDto> getRanked(String query, int size) {
+        return getBooksInOrder(bookSearchIndex.rank(query, size)).stream()
+                                                                 .map(bookMapper::toDto)
+                                                                 .toList();
+    }
+
+    @Override
+    public List<BookSuggestionDto> suggest(String prefix, int limit) {
+        return bookSearchIndex.suggest(prefix, limit);
     }
 
     @Transactional
@@ -74,7 +200,9 @@ public class BookServiceImpl implements BookService {
 
         Book book = bookMapper.toModel(bookRequestDto);
         book.setId(id);
-        return bookMapper.toDto(bookRepository.save(book));
+        BookDto updatedBook = bookMapper.toDto(bookRepository.save(book));
+        eventPublisher.publishEvent(new BookSavedEvent(updatedBook));
+        return updatedBook;
     }
 
     @Transactional
@@ -84,13 +212,102 @@ public class BookServiceImpl implements BookService {
             throw new EntityNotFoundException("Can't find book to delete by id " + id);
         }
         bookRepository.deleteById(id);
+        eventPublisher.publishEvent(new BookDeletedEvent(id));
     }
 
     @Override
     public List<BookDtoWithoutCategoryIds> getByCategoryId(Long id, Pageable pageable) {
-        return bookRepository.findAllByCategories_Id(id, pageable).stream()
-                             .map(bookMapper::toDtoWithoutCategories)
-                             .toList();
+        return catalogSnapshotHolder.getSnapshot()
+                .flatMap(snapshot -> snapshot.findBooksByCategory(id, pageable))
+                .orElseGet(() -> bookRepository.findAllByCategoryId(id, pageable));
+    }
+
+    private List<BookDto> searchBooks(
+            BookSearchParameters bookSearchParameters, Pageable pageable) {
+        long start = System.nanoTime();
+        List<Long> ids = pageable.isUnpaged()
+                ? bookRepository.findIds(getSearchSpecification(bookSearchParameters), pageable)
+                : findIds(bookSearchParameters, withIdTieBreaker(pageable.getSort()),
+                        pageable.getOffset(), pageable.getPageSize());
+        List<BookDto> books = getBooksInOrder(ids).stream()
+                                                  .map(bookMapper::toDto)
+                                                  .toList();
+        bookSearchMonitor.record(bookSearchParameters, pageable, System.nanoTime() - start,
+                books.size());
+        return books;
+    }
+
+    private List<Long> findIds(BookSearchParameters bookSearchParameters, Sort sort,
+            long offset, int limit) {
+        return bookSearchIndex.findIndexOrderedIds(bookSearchParameters, sort, offset, limit)
+                .or(() -> bookSearchIndex.findSqlCandidates(bookSearchParameters)
+                        .map(ids -> bookRepository.findIds(
+                                getCandidatesSpecification(bookSearchParameters, ids),
+                                sort, offset, limit)))
+                .or(() -> bookSearchJdbcRepository.findIds(
+                        bookSearchParameters, sort, offset, limit))
+                .orElseGet(() -> bookRepository.findIds(
+                        bookSpecificationBuilder.build(bookSearchParameters), sort, offset, limit));
+    }
+
+    private long countIds(BookSearchParameters bookSearchParameters) {
+        return bookSearchIndex.findCandidates(bookSearchParameters)
+                .map(ids -> (long) ids.cardinality())
+                .orElseGet(() -> bookSearchJdbcRepository.countIds(bookSearchParameters));
+    }
+
+    private Specification<Book> getSearchSpecification(BookSearchParameters bookSearchParameters) {
+        return bookSearchIndex.findSqlCandidates(bookSearchParameters)
+                .map(ids -> getCandidatesSpecification(bookSearchParameters, ids))
+                .orElseGet(() -> bookSpecificationBuilder.build(bookSearchParameters));
+    }
+
+    private Specification<Book> getCandidatesSpecification(
+            BookSearchParameters bookSearchParameters, IdBitmap ids) {
+        return bookSpecificationBuilder.build(bookSearchParameters,
+                        bookSearchIndex.getIndexedParameters())
+                .and(bookSpecificationBuilder.idIn(ids));
+    }
+
+    private BookCursorPageDto getPageByCursor(
+            Specification<Book> specification, String cursor, int size) {
+        if (cursor != null) {
+            specification = specification.and(
+                    bookSpecificationBuilder.after(BookCursor.decode(cursor)));
+        }
+        List<Long> ids = bookRepository.findIds(
+                specification, PageRequest.of(0, size + 1, BookCursor.SORT));
+        boolean hasNext = ids.size() > size;
+        List<Book> books = getBooksInOrder(hasNext ? ids.subList(0, size) : ids);
+        String nextCursor = hasNext && !books.isEmpty()
+                ? BookCursor.of(books.getLast()).encode() : null;
+        return new BookCursorPageDto(books.stream()
+                                          .map(bookMapper::toDto)
+                                          .toList(), nextCursor);
+    }
+
+    private List<Book> getBooksInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Book> booksById = bookRepository.findAllWithCategoriesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return ids.stream()
+                  .map(booksById::get)
+                  .filter(Objects::nonNull)
+                  .toList();
+    }
+
+    private Pageable withIdTieBreaker(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                withIdTieBreaker(pageable.getSort()));
+    }
+
+    private Sort withIdTieBreaker(Sort sort) {
+        return sort.getOrderFor(ID) != null ? sort : sort.and(Sort.by(ID));
     }
 
     private void validateIsbnUniqueness(Long id, CreateBookRequestDto bookRequestDto) {
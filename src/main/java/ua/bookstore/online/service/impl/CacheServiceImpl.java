@@ -0,0 +1,23 @@
+package ua.bookstore.online.service.impl;
+
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.dto.cache.CacheStatsDto;
+import ua.bookstore.online.service.CacheService;
+
+@Service
+@RequiredArgsConstructor
+public class CacheServiceImpl implements CacheService {
+    private final List<ExpiringCache<?, ?>> caches;
+
+    @Override
+    public List<CacheStatsDto> getStats() {
+        return caches.stream()
+                     .map(ExpiringCache::getStats)
+                     .sorted(Comparator.comparing(CacheStatsDto::name))
+                     .toList();
+    }
+}
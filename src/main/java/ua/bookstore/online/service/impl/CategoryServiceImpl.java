@@ -4,13 +4,19 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import ua.bookstore.online.cache.CatalogSnapshotHolder;
+import ua.bookstore.online.cache.CatalogVersions;
 import ua.bookstore.online.dto.category.CategoryRequestDto;
 import ua.bookstore.online.dto.category.CategoryResponseDto;
+import ua.bookstore.online.event.CategoryDeletedEvent;
+import ua.bookstore.online.event.CategorySavedEvent;
 import ua.bookstore.online.exception.EntityNotFoundException;
 import ua.bookstore.online.mapper.CategoryMapper;
 import ua.bookstore.online.model.Category;
+import ua.bookstore.online.repository.ResourceVersion;
 import ua.bookstore.online.repository.category.CategoryRepository;
 import ua.bookstore.online.service.CategoryService;
 
@@ -19,25 +25,57 @@ import ua.bookstore.online.service.CategoryService;
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final CatalogVersions catalogVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<CategoryResponseDto> findAll(Pageable pageable) {
-        return categoryRepository.findAll(pageable).stream()
-                                 .map(categoryMapper::toResponseDto)
-                                 .toList();
+        return catalogSnapshotHolder.getSnapshot()
+                .flatMap(snapshot -> snapshot.findCategories(pageable))
+                .orElseGet(() -> categoryRepository.findAll(pageable).stream()
+                                                   .map(categoryMapper::toResponseDto)
+                                                   .toList());
     }
 
     @Override
     public CategoryResponseDto getById(Long id) {
-        return categoryMapper.toResponseDto(
-                categoryRepository.findById(id).orElseThrow(
-                        () -> new EntityNotFoundException("Can't find category by id:" + id)));
+        return catalogSnapshotHolder.getSnapshot()
+                .map(snapshot -> snapshot.findCategory(id).orElseThrow(
+                        () -> new EntityNotFoundException("Can't find category by id:" + id)))
+                .orElseGet(() -> categoryMapper.toResponseDto(
+                        categoryRepository.findById(id).orElseThrow(
+                                () -> new EntityNotFoundException(
+                                        "Can't find category by id:" + id))));
+    }
+
+    @Override
+    public String getETag(Long id) {
+        return catalogSnapshotHolder.getSnapshot()
+                .map(snapshot -> snapshot.findCategory(id)
+                        .map(category -> catalogVersions.getSnapshotETag(snapshot))
+                        .orElseThrow(() -> new EntityNotFoundException(
+                                "Can't find category by id:" + id)))
+                .orElseGet(() -> categoryRepository.findUpdatedAtById(id)
+                        .map(updatedAt -> new ResourceVersion(updatedAt).toETag())
+                        .orElseThrow(() -> new EntityNotFoundException(
+                                "Can't find category by id:" + id)));
+    }
+
+    @Override
+    public String getCatalogETag() {
+        return catalogSnapshotHolder.getSnapshot()
+                .map(catalogVersions::getSnapshotETag)
+                .orElseGet(catalogVersions::getCategoriesETag);
     }
 
     @Override
     public CategoryResponseDto save(CategoryRequestDto categoryDto) {
         Category category = categoryMapper.toModel(categoryDto);
-        return categoryMapper.toResponseDto(categoryRepository.save(category));
+        CategoryResponseDto savedCategory =
+                categoryMapper.toResponseDto(categoryRepository.save(category));
+        eventPublisher.publishEvent(new CategorySavedEvent(savedCategory));
+        return savedCategory;
     }
 
     @Override
@@ -47,7 +85,10 @@ public class CategoryServiceImpl implements CategoryService {
         }
         Category category = categoryMapper.toModel(categoryDto);
         category.setId(id);
-        return categoryMapper.toResponseDto(categoryRepository.save(category));
+        CategoryResponseDto updatedCategory =
+                categoryMapper.toResponseDto(categoryRepository.save(category));
+        eventPublisher.publishEvent(new CategorySavedEvent(updatedCategory));
+        return updatedCategory;
     }
 
     @Override
@@ -56,6 +97,7 @@ public class CategoryServiceImpl implements CategoryService {
             throw new EntityNotFoundException("Can't find category to delete by id " + id);
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryDeletedEvent(id));
     }
 
     @Override
@@ -64,4 +106,9 @@ public class CategoryServiceImpl implements CategoryService {
                 .map(Category::getId)
                 .collect(Collectors.toSet());
     }
+
+    @Override
+    public Set<Long> getAllCategoryIds() {
+        return categoryRepository.findAllIds();
+    }
 }
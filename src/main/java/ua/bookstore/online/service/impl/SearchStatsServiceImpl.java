@@ -0,0 +1,24 @@
+package ua.bookstore.online.service.impl;
+
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ua.bookstore.online.dto.search.SearchQueryStatsDto;
+import ua.bookstore.online.monitoring.BookSearchMonitor;
+import ua.bookstore.online.service.SearchStatsService;
+
+@Service
+@RequiredArgsConstructor
+public class SearchStatsServiceImpl implements SearchStatsService {
+    private final BookSearchMonitor bookSearchMonitor;
+
+    @Override
+    public List<SearchQueryStatsDto> getSlowestQueries(int limit) {
+        return bookSearchMonitor.getStats().stream()
+                                .sorted(Comparator.comparingDouble(SearchQueryStatsDto::totalMillis)
+                                                  .reversed())
+                                .limit(limit)
+                                .toList();
+    }
+}
@@ -2,11 +2,13 @@ package ua.bookstore.online.service.impl;
 
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.bookstore.online.dto.user.UserRegistrationRequestDto;
 import ua.bookstore.online.dto.user.UserResponseDto;
+import ua.bookstore.online.event.UserChangedEvent;
 import ua.bookstore.online.exception.RegistrationException;
 import ua.bookstore.online.mapper.UserMapper;
 import ua.bookstore.online.model.RoleName;
@@ -22,6 +24,7 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -38,6 +41,7 @@ public class UserServiceImpl implements UserService {
         user.setEmail(user.getEmail().toLowerCase());
         user.setRoles(roleRepository.getAllByNameIn(Set.of(RoleName.ROLE_USER)));
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getEmail()));
         return userMapper.toDto(savedUser);
     }
 }
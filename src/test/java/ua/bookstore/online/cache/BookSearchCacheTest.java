@@ -0,0 +1,70 @@
+package ua.bookstore.online.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.getMelville;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.event.BookDeletedEvent;
+
+class BookSearchCacheTest {
+    private static final Pageable PAGEABLE = PageRequest.of(0, 5);
+    private final AtomicInteger loads = new AtomicInteger();
+    private BookSearchCache bookSearchCache;
+
+    @BeforeEach
+    void beforeEach() {
+        bookSearchCache = new BookSearchCache(
+                new ExpiringCache<>("bookSearchResult", 10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("Get page by parameters differing in case and order, loads page once")
+    void getPage_EquivalentParameters_LoadsOnce() {
+        // Given
+        BookSearchParameters first = parameters("Orwell", "Melville");
+        BookSearchParameters second = parameters(" melville", "ORWELL ");
+
+        // When
+        bookSearchCache.getPage(first, PAGEABLE, this::load);
+        List<BookDto> actual = bookSearchCache.getPage(second, PAGEABLE, this::load);
+
+        // Then
+        assertEquals(List.of(getOrwell(), getMelville()), actual);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Get page after book deleted, loads page again")
+    void getPage_AfterBookDeleted_LoadsAgain() {
+        // Given
+        BookSearchParameters parameters = parameters("Orwell");
+        bookSearchCache.getPage(parameters, PAGEABLE, this::load);
+
+        // When
+        bookSearchCache.onBookDeleted(new BookDeletedEvent(ID_1));
+        bookSearchCache.getPage(parameters, PAGEABLE, this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    private List<BookDto> load() {
+        loads.incrementAndGet();
+        return List.of(getOrwell(), getMelville());
+    }
+
+    private BookSearchParameters parameters(String... authors) {
+        return new BookSearchParameters(null, null, authors, null, null, null, null, null);
+    }
+}
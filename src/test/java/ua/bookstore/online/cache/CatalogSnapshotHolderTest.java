@@ -0,0 +1,101 @@
+package ua.bookstore.online.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+import static ua.bookstore.online.utils.TestDataUtils.getMelville;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.event.BookDeletedEvent;
+import ua.bookstore.online.event.BookSavedEvent;
+import ua.bookstore.online.mapper.BookMapper;
+import ua.bookstore.online.mapper.CategoryMapper;
+import ua.bookstore.online.repository.book.BookRepository;
+import ua.bookstore.online.repository.category.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotHolderTest {
+    private static final int BATCH_SIZE = 10;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private BookMapper bookMapper;
+    @Mock
+    private CategoryMapper categoryMapper;
+    private Queue<Runnable> applierTasks;
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @BeforeEach
+    void beforeEach() {
+        applierTasks = new ArrayDeque<>();
+        catalogSnapshotHolder = new CatalogSnapshotHolder(bookRepository, categoryRepository,
+                bookMapper, categoryMapper, true, BATCH_SIZE, applierTasks::add);
+    }
+
+    @Test
+    @DisplayName("Save book after load, readers keep the current snapshot until the applier "
+            + "swaps in the rebuilt one")
+    void onBookSaved_SnapshotLoaded_AppliedOffTheReadPath() {
+        // Given
+        loadEmptySnapshot();
+        CatalogSnapshot loaded = catalogSnapshotHolder.getSnapshot().orElseThrow();
+
+        // When
+        catalogSnapshotHolder.onBookSaved(new BookSavedEvent(getOrwell()));
+        catalogSnapshotHolder.onBookSaved(new BookSavedEvent(getMelville()));
+
+        // Then
+        assertSame(loaded, catalogSnapshotHolder.getSnapshot().orElseThrow());
+        assertEquals(1, applierTasks.size());
+        applierTasks.poll().run();
+        CatalogSnapshot updated = catalogSnapshotHolder.getSnapshot().orElseThrow();
+        assertEquals(2, updated.getBookCount());
+        assertEquals(loaded.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    @DisplayName("Delete book while snapshot is loading, replays the change after load")
+    void onBookDeleted_BeforeLoad_ReplayedAfterLoad() {
+        // Given
+        catalogSnapshotHolder.onBookDeleted(new BookDeletedEvent(ID_2));
+        applierTasks.poll().run();
+
+        // Mocking behavior
+        when(bookRepository.findIds(any(), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(List.of());
+
+        // When
+        catalogSnapshotHolder.rebuild();
+        catalogSnapshotHolder.onBookSaved(new BookSavedEvent(getMelville()));
+        applierTasks.poll().run();
+
+        // Then
+        CatalogSnapshot actual = catalogSnapshotHolder.getSnapshot().orElseThrow();
+        assertTrue(actual.findBook(ID_2).isPresent());
+        assertTrue(applierTasks.isEmpty());
+    }
+
+    private void loadEmptySnapshot() {
+        when(bookRepository.findIds(any(), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(List.of());
+        catalogSnapshotHolder.rebuild();
+        applierTasks.poll().run();
+    }
+}
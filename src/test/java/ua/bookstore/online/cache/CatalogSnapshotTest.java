@@ -0,0 +1,143 @@
+package ua.bookstore.online.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+import static ua.bookstore.online.utils.TestDataUtils.ID_3;
+import static ua.bookstore.online.utils.TestDataUtils.getMelville;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
+import ua.bookstore.online.dto.category.CategoryResponseDto;
+
+class CatalogSnapshotTest {
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void beforeEach() {
+        snapshot = CatalogSnapshot.builder()
+                                  .saveCategory(new CategoryResponseDto(ID_1, "Fiction", null))
+                                  .saveCategory(new CategoryResponseDto(ID_2, "Dystopia", null))
+                                  .saveCategory(new CategoryResponseDto(ID_3, "Adventure", null))
+                                  .saveBook(getMelville())
+                                  .saveBook(getOrwell())
+                                  .build();
+    }
+
+    @Test
+    @DisplayName("Find book by id, returns book or empty optional")
+    void findBook_ExistingAndMissingIds_ReturnsBookOrEmpty() {
+        // When
+        Optional<BookDto> existing = snapshot.findBook(ID_2);
+        Optional<BookDto> missing = snapshot.findBook(ID_3);
+
+        // Then
+        assertEquals(Optional.of(getMelville()), existing);
+        assertTrue(missing.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find books in precomputed price order, returns requested page")
+    void findBooks_SortedByPrice_ReturnsOrderedPage() {
+        // When
+        Optional<List<BookDto>> actual = snapshot.findBooks(
+                PageRequest.of(1, 1, Sort.by("price", "title", "id")));
+
+        // Then
+        assertEquals(Optional.of(List.of(getMelville())), actual);
+    }
+
+    @Test
+    @DisplayName("Find books in order that is not precomputed, returns empty optional")
+    void findBooks_NotPrecomputedSort_ReturnsEmpty() {
+        // When
+        Optional<List<BookDto>> actual = snapshot.findBooks(
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "price")));
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find books sorted by unknown property, returns empty optional")
+    void findBooks_UnknownSortProperty_ReturnsEmpty() {
+        // When
+        Optional<List<BookDto>> actual = snapshot.findBooks(
+                PageRequest.of(0, 10, Sort.by("categories")));
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find books by category, returns only books of that category")
+    void findBooksByCategory_ExistingCategory_ReturnsBooksOfCategory() {
+        // When
+        List<Long> actual = snapshot.findBooksByCategory(ID_3, PageRequest.of(0, 10))
+                                    .orElseThrow().stream()
+                                    .map(BookDtoWithoutCategoryIds::id)
+                                    .toList();
+
+        // Then
+        assertEquals(List.of(ID_2), actual);
+    }
+
+    @Test
+    @DisplayName("Remove book through builder, keeps original snapshot untouched")
+    void toBuilder_RemoveBook_ReturnsNewSnapshotWithoutBook() {
+        // When
+        CatalogSnapshot updated = snapshot.toBuilder().removeBook(ID_1).build();
+
+        // Then
+        assertEquals(1, updated.getBookCount());
+        assertEquals(2, snapshot.getBookCount());
+        assertTrue(updated.findBooksByCategory(ID_2, PageRequest.of(0, 10))
+                          .orElseThrow()
+                          .isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find categories sorted by name, returns categories in alphabetical order")
+    void findCategories_SortedByName_ReturnsOrderedCategories() {
+        // When
+        List<Long> actual = snapshot.findCategories(PageRequest.of(0, 10, Sort.by("name")))
+                                    .orElseThrow().stream()
+                                    .map(CategoryResponseDto::id)
+                                    .toList();
+
+        // Then
+        assertEquals(List.of(ID_3, ID_2, ID_1), actual);
+    }
+
+    @Test
+    @DisplayName("Find books of category sorted by title, returns books in title order")
+    void findBooksByCategory_SortedByTitle_ReturnsOrderedBooks() {
+        // Given
+        BookDto history = BookDto.builder()
+                                 .id(ID_3)
+                                 .title("1776")
+                                 .categoryIds(Set.of(ID_2))
+                                 .build();
+        CatalogSnapshot updated = snapshot.toBuilder().saveBook(history).build();
+
+        // When
+        List<Long> actual = updated.findBooksByCategory(ID_2,
+                                           PageRequest.of(0, 10, Sort.by("title")))
+                                   .orElseThrow().stream()
+                                   .map(BookDtoWithoutCategoryIds::id)
+                                   .toList();
+
+        // Then
+        assertEquals(List.of(ID_3, ID_1), actual);
+    }
+}
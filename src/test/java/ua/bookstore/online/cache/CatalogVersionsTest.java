@@ -0,0 +1,86 @@
+package ua.bookstore.online.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ua.bookstore.online.event.BookSavedEvent;
+import ua.bookstore.online.event.CategoryDeletedEvent;
+import ua.bookstore.online.repository.TableVersion;
+import ua.bookstore.online.repository.book.BookRepository;
+import ua.bookstore.online.repository.category.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionsTest {
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    private CatalogVersions catalogVersions;
+
+    @BeforeEach
+    void beforeEach() {
+        catalogVersions = new CatalogVersions(bookRepository, categoryRepository);
+    }
+
+    @Test
+    @DisplayName("Save book, changes books ETag and keeps categories ETag")
+    void onBookSaved_BookSaved_ChangesOnlyBooksETag() {
+        // Given
+        String books = catalogVersions.getBooksETag();
+        String categories = catalogVersions.getCategoriesETag();
+
+        // When
+        catalogVersions.onBookSaved(new BookSavedEvent(getOrwell()));
+
+        // Then
+        assertNotEquals(books, catalogVersions.getBooksETag());
+        assertEquals(categories, catalogVersions.getCategoriesETag());
+    }
+
+    @Test
+    @DisplayName("Delete category, changes both ETags because books lose the category id")
+    void onCategoryDeleted_CategoryDeleted_ChangesBothETags() {
+        // Given
+        String books = catalogVersions.getBooksETag();
+        String categories = catalogVersions.getCategoriesETag();
+
+        // When
+        catalogVersions.onCategoryDeleted(new CategoryDeletedEvent(ID_1));
+
+        // Then
+        assertNotEquals(books, catalogVersions.getBooksETag());
+        assertNotEquals(categories, catalogVersions.getCategoriesETag());
+    }
+
+    @Test
+    @DisplayName("Poll, books changed by another node, changes books ETag")
+    void poll_BooksChangedElsewhere_ChangesBooksETag() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 4, 1, 12, 0);
+        String books = catalogVersions.getBooksETag();
+
+        // Mocking behavior
+        when(bookRepository.findTableVersion()).thenReturn(new TableVersion(2L, updatedAt),
+                new TableVersion(1L, updatedAt));
+        when(categoryRepository.findTableVersion()).thenReturn(TableVersion.EMPTY);
+
+        // When
+        catalogVersions.poll();
+        String polled = catalogVersions.getBooksETag();
+        catalogVersions.poll();
+
+        // Then
+        assertNotEquals(books, polled);
+        assertNotEquals(polled, catalogVersions.getBooksETag());
+    }
+}
@@ -0,0 +1,153 @@
+package ua.bookstore.online.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.bookstore.online.dto.cache.CacheStatsDto;
+
+class ExpiringCacheTest {
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final String KEY = "key";
+    private MutableClock clock;
+    private ExpiringCache<String, Integer> cache;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = new MutableClock();
+        cache = new ExpiringCache<>("test", 2, TTL, clock);
+    }
+
+    @Test
+    @DisplayName("Get value by loader twice, loads value only once")
+    void get_SameKeyTwice_LoadsOnce() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        Integer first = cache.get(KEY, key -> loads.incrementAndGet());
+        Integer second = cache.get(KEY, key -> loads.incrementAndGet());
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(1, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().loads());
+    }
+
+    @Test
+    @DisplayName("Get value by loader invalidated while loading, does not cache stale value")
+    void get_InvalidatedWhileLoading_DropsLoadedValue() {
+        // When
+        Integer loaded = cache.get(KEY, key -> {
+            cache.invalidate(KEY);
+            return 1;
+        });
+
+        // Then
+        assertEquals(1, loaded);
+        assertTrue(cache.get(KEY).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Get value after TTL, returns empty optional")
+    void get_ExpiredEntry_ReturnsEmpty() {
+        // Given
+        cache.put(KEY, 1);
+
+        // When
+        clock.advance(TTL);
+        Optional<Integer> actual = cache.get(KEY);
+
+        // Then
+        assertTrue(actual.isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Get value after its own expiry earlier than TTL, returns empty optional")
+    void get_EntryPastOwnExpiry_ReturnsEmpty() {
+        // Given
+        Duration lifetime = Duration.ofSeconds(5);
+        cache.put(KEY, 1, clock.instant().plus(lifetime));
+
+        // When
+        Optional<Integer> beforeExpiry = cache.get(KEY);
+        clock.advance(lifetime);
+        Optional<Integer> afterExpiry = cache.get(KEY);
+
+        // Then
+        assertEquals(Optional.of(1), beforeExpiry);
+        assertTrue(afterExpiry.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Put more entries than max size, evicts entry expiring first")
+    void put_MoreThanMaxSize_EvictsEntryExpiringFirst() {
+        // Given
+        cache.put("first", 1);
+        clock.advance(Duration.ofSeconds(1));
+        cache.put("second", 2);
+        cache.put("third", 3, clock.instant().plusSeconds(5));
+
+        // When
+        cache.put("fourth", 4);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("first").isEmpty());
+        assertTrue(cache.get("third").isEmpty());
+        assertEquals(Optional.of(2), cache.get("second"));
+    }
+
+    @Test
+    @DisplayName("Get stats after lookups and evictions, returns counters")
+    void getStats_AfterLookupsAndEvictions_ReturnsCounters() {
+        // Given
+        cache.put("first", 1);
+        cache.put("second", 2);
+        cache.get("first");
+        cache.put("third", 3);
+        cache.get("first");
+        CacheStatsDto expected = new CacheStatsDto("test", 2, 2, 1, 1, 1, 0.5, 0, 0);
+
+        // When
+        CacheStatsDto actual = cache.getStats();
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
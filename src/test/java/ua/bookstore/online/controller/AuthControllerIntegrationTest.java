@@ -1,6 +1,7 @@
 package ua.bookstore.online.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.test.context.jdbc.Sql;
@@ -36,6 +38,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
+import ua.bookstore.online.dto.user.RefreshTokenRequestDto;
 import ua.bookstore.online.dto.user.UserLoginRequestDto;
 import ua.bookstore.online.dto.user.UserLoginResponseDto;
 import ua.bookstore.online.dto.user.UserRegistrationRequestDto;
@@ -46,6 +49,8 @@ class AuthControllerIntegrationTest {
     private static final String AUTH_URI = "/auth";
     private static final String REGISTRATION_URI = AUTH_URI + "/registration";
     private static final String LOGIN_URI = AUTH_URI + "/login";
+    private static final String REFRESH_URI = AUTH_URI + "/refresh";
+    private static final String LOGOUT_URI = AUTH_URI + "/logout";
     private static MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
@@ -141,5 +146,91 @@ class AuthControllerIntegrationTest {
         assertNotNull(actual);
         String tokenRegex = "^[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+$";
         assertTrue(actual.token().matches(tokenRegex));
+        assertNotNull(actual.refreshToken());
+    }
+
+    @Test
+    @DisplayName("Refresh with rotated token, expected: status - 202, then reuse - 401 "
+            + "and the whole token family revoked")
+    @Sql(scripts = {
+            CLASSPATH + TEAR_DOWN_DB_SQL,
+            CLASSPATH + ADD_USERS_SQL,
+            CLASSPATH + ADD_ROLES,
+            CLASSPATH + ADD_USERS_ROLES
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    void refresh_RotateThenReuseToken_RevokesFamily() throws Exception {
+        // Given
+        String loginRequest =
+                objectMapper.writeValueAsString(new UserLoginRequestDto(USER_EMAIL, PASSWORD));
+        MvcResult loginResult = mockMvc.perform(post(LOGIN_URI)
+                                               .content(loginRequest)
+                                               .contentType(MediaType.APPLICATION_JSON))
+                                       .andExpect(status().isAccepted())
+                                       .andReturn();
+        String issued = objectMapper.readValue(loginResult.getResponse().getContentAsString(),
+                UserLoginResponseDto.class).refreshToken();
+
+        // When
+        MvcResult refreshResult = mockMvc.perform(post(REFRESH_URI)
+                                                 .content(getRefreshRequest(issued))
+                                                 .contentType(MediaType.APPLICATION_JSON))
+                                         .andExpect(status().isAccepted())
+                                         .andReturn();
+        UserLoginResponseDto rotated =
+                objectMapper.readValue(refreshResult.getResponse().getContentAsString(),
+                        UserLoginResponseDto.class);
+
+        // Then
+        assertNotNull(rotated.token());
+        assertNotEquals(issued, rotated.refreshToken());
+        mockMvc.perform(post(REFRESH_URI)
+                       .content(getRefreshRequest(issued))
+                       .contentType(MediaType.APPLICATION_JSON))
+               .andExpect(status().isUnauthorized());
+        mockMvc.perform(post(REFRESH_URI)
+                       .content(getRefreshRequest(rotated.refreshToken()))
+                       .contentType(MediaType.APPLICATION_JSON))
+               .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Logout user, expected: status - 204, then the same tokens - 401")
+    @Sql(scripts = {
+            CLASSPATH + TEAR_DOWN_DB_SQL,
+            CLASSPATH + ADD_USERS_SQL,
+            CLASSPATH + ADD_ROLES,
+            CLASSPATH + ADD_USERS_ROLES
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    void logout_LoggedInUser_RevokesTokens() throws Exception {
+        // Given
+        String loginRequest =
+                objectMapper.writeValueAsString(new UserLoginRequestDto(USER_EMAIL, PASSWORD));
+        MvcResult loginResult = mockMvc.perform(post(LOGIN_URI)
+                                               .content(loginRequest)
+                                               .contentType(MediaType.APPLICATION_JSON))
+                                       .andExpect(status().isAccepted())
+                                       .andReturn();
+        UserLoginResponseDto tokens =
+                objectMapper.readValue(loginResult.getResponse().getContentAsString(),
+                        UserLoginResponseDto.class);
+        String authorization = "Bearer " + tokens.token();
+
+        // When
+        mockMvc.perform(post(LOGOUT_URI)
+                       .header(HttpHeaders.AUTHORIZATION, authorization))
+               .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(post(LOGOUT_URI)
+                       .header(HttpHeaders.AUTHORIZATION, authorization))
+               .andExpect(status().isUnauthorized());
+        mockMvc.perform(post(REFRESH_URI)
+                       .content(getRefreshRequest(tokens.refreshToken()))
+                       .contentType(MediaType.APPLICATION_JSON))
+               .andExpect(status().isUnauthorized());
+    }
+
+    private String getRefreshRequest(String refreshToken) throws Exception {
+        return objectMapper.writeValueAsString(new RefreshTokenRequestDto(refreshToken));
     }
 }
@@ -2,18 +2,22 @@ package ua.bookstore.online.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ua.bookstore.online.utils.TestDataUtils.ADD_CATEGORIES_FOR_BOOKS_SQL;
 import static ua.bookstore.online.utils.TestDataUtils.ADD_CATEGORIES_SQL;
 import static ua.bookstore.online.utils.TestDataUtils.ADD_THREE_BOOKS_SQL;
 import static ua.bookstore.online.utils.TestDataUtils.ID_1;
 import static ua.bookstore.online.utils.TestDataUtils.ISBN_ORWELL;
+import static ua.bookstore.online.utils.TestDataUtils.NON_EXISTING_ID;
 import static ua.bookstore.online.utils.TestDataUtils.NON_EXISTING_ISBN;
 import static ua.bookstore.online.utils.TestDataUtils.createBookRequestDto;
 import static ua.bookstore.online.utils.TestDataUtils.getMelville;
@@ -24,6 +28,7 @@ import static ua.bookstore.online.utils.TestDataUtils.tearDown;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Connection;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
@@ -36,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
@@ -45,7 +51,10 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
+import ua.bookstore.online.dto.book.BookBatchDto;
+import ua.bookstore.online.dto.book.BookCursorPageDto;
 import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookSearchResultDto;
 import ua.bookstore.online.dto.book.CreateBookRequestDto;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -163,6 +172,49 @@ class BookControllerIntegrationTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
     }
 
+    @Test
+    @DisplayName("Get unchanged book with its ETag, expected: status - 304")
+    @WithMockUser
+    void getBookById_MatchingETag_RespondNotModified() throws Exception {
+        // Given
+        String url = URI + "/" + ID_1;
+        String eTag = mockMvc.perform(get(url))
+                             .andExpect(status().isOk())
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+
+        // When
+        MvcResult result = mockMvc.perform(get(url)
+                                          .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                                  .andExpect(status().isNotModified())
+                                  .andReturn();
+
+        // Then
+        assertNotNull(eTag);
+        assertEquals(eTag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Get books by IDs, expected: status - 200, response - BookBatchDto")
+    @WithMockUser
+    void getByIds_ExistingAndMissingIds_ReturnsBooksAndMissingIds() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get(URI)
+                                          .param("ids", "2,1234,1")
+                                          .contentType(MediaType.APPLICATION_JSON))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        // Then
+        BookBatchDto actual =
+                objectMapper.readValue(result.getResponse().getContentAsString(),
+                        BookBatchDto.class);
+        assertEquals(List.of(getMelville(), getOrwell()), actual.books());
+        assertEquals(List.of(NON_EXISTING_ID), actual.missingIds());
+    }
+
     @Test
     @DisplayName("Get existing book by ID, expected: status - 200, response - BookDto")
     @WithMockUser
@@ -211,6 +263,46 @@ class BookControllerIntegrationTest {
         assertEquals(expected, Arrays.stream(actual).toList());
     }
 
+    @Test
+    @DisplayName("Get books page by page with cursor, expected: status - 200, "
+            + "response - BookCursorPageDto")
+    @WithMockUser
+    void getAllByCursor_GetTwoPages_ReturnsAllBooksInPriceOrder() throws Exception {
+        // When
+        MvcResult firstResult = mockMvc.perform(get(URI + "/cursor")
+                                               .param("size", "2")
+                                               .contentType(MediaType.APPLICATION_JSON))
+                                       .andExpect(status().isOk())
+                                       .andReturn();
+        BookCursorPageDto firstPage = objectMapper.readValue(
+                firstResult.getResponse().getContentAsString(), BookCursorPageDto.class);
+        MvcResult secondResult = mockMvc.perform(get(URI + "/cursor")
+                                                .param("size", "2")
+                                                .param("cursor", firstPage.nextCursor())
+                                                .contentType(MediaType.APPLICATION_JSON))
+                                        .andExpect(status().isOk())
+                                        .andReturn();
+        BookCursorPageDto secondPage = objectMapper.readValue(
+                secondResult.getResponse().getContentAsString(), BookCursorPageDto.class);
+
+        // Then
+        assertEquals(List.of(3L, ID_1),
+                firstPage.books().stream().map(BookDto::id).toList());
+        assertNotNull(firstPage.nextCursor());
+        assertEquals(List.of(getMelville()), secondPage.books());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Get books with malformed cursor, expected: status - 400")
+    @WithMockUser
+    void getAllByCursor_MalformedCursor_RespondBadRequest() throws Exception {
+        mockMvc.perform(get(URI + "/cursor")
+                       .param("cursor", "not a cursor")
+                       .contentType(MediaType.APPLICATION_JSON))
+               .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Search books by params, expected: status - 200, response - BookDto[]")
     @WithMockUser
@@ -237,6 +329,88 @@ class BookControllerIntegrationTest {
         assertEquals(expected.size(), actual.length);
     }
 
+    @Test
+    @DisplayName("Search books from all given categories, expected: status - 200, "
+            + "response - books having every category")
+    @WithMockUser
+    void searchBooks_AllCategoriesMatch_ReturnsBooksWithEveryCategory() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get(URI + "/search")
+                                          .param("categoryIds", "1", "2")
+                                          .param("categoryMatch", "ALL")
+                                          .contentType(MediaType.APPLICATION_JSON))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        // Then
+        BookDto[] actual =
+                objectMapper.readValue(result.getResponse().getContentAsString(),
+                        BookDto[].class);
+        assertEquals(List.of(getOrwell()), List.of(actual));
+    }
+
+    @Test
+    @DisplayName("Search slice of books with total, expected: status - 200, "
+            + "response - BookSearchResultDto")
+    @WithMockUser
+    void searchBooksSlice_SearchFirstPageWithTotal_ReturnsSliceWithTotal() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get(URI + "/search/slice")
+                                          .param("page", "0")
+                                          .param("size", "1")
+                                          .param("sort", "id")
+                                          .param("categoryIds", "1")
+                                          .param("withTotal", "true")
+                                          .contentType(MediaType.APPLICATION_JSON))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        // Then
+        BookSearchResultDto actual =
+                objectMapper.readValue(result.getResponse().getContentAsString(),
+                        BookSearchResultDto.class);
+        assertEquals(List.of(getOrwell()), actual.books());
+        assertTrue(actual.hasNext());
+        assertEquals(2L, actual.estimatedTotal());
+    }
+
+    @Test
+    @DisplayName("Export books as CSV, expected: status - 200, response - row per book")
+    @WithMockUser(username = "admin", roles = {"MANAGER"})
+    void exportBooks_Csv_StreamsAllBooks() throws Exception {
+        // Given
+        List<String> expected = List.of(
+                "id,title,author,isbn,price,description,cover_image,category_ids",
+                "1,1984,George Orwell,9780451524935,12.99,,,1;2",
+                "2,Moby-Dick,Herman Melville,9781503280781,14.99,,,1;3",
+                "3,Jane Eyre,Charlotte Brontë,9780141441146,9.99,,,4;5");
+
+        // When
+        MvcResult asyncResult = mockMvc.perform(get(URI + "/export")
+                                               .param("format", "CSV"))
+                                       .andExpect(request().asyncStarted())
+                                       .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        // Then
+        assertEquals("text/csv", result.getResponse().getContentType());
+        assertEquals(expected, result.getResponse()
+                                     .getContentAsString(StandardCharsets.UTF_8)
+                                     .lines()
+                                     .toList());
+    }
+
+    @Test
+    @DisplayName("Export books by user, expected: status - 403")
+    @WithMockUser
+    void exportBooks_NotManager_RespondForbidden() throws Exception {
+        // When
+        mockMvc.perform(get(URI + "/export"))
+               .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("Successfully delete existing book, expected: status - 204")
     @WithMockUser(username = "admin", roles = {"MANAGER"})
@@ -1,6 +1,7 @@
 package ua.bookstore.online.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -12,6 +13,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static ua.bookstore.online.utils.TestDataUtils.ADD_CATEGORIES_SQL;
 import static ua.bookstore.online.utils.TestDataUtils.ID_1;
 import static ua.bookstore.online.utils.TestDataUtils.beforeEachBookRepositoryTest;
+import static ua.bookstore.online.utils.TestDataUtils.getCategoryRequest;
 import static ua.bookstore.online.utils.TestDataUtils.getClassic;
 import static ua.bookstore.online.utils.TestDataUtils.getDystopian;
 import static ua.bookstore.online.utils.TestDataUtils.getFiction;
@@ -33,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -177,6 +180,55 @@ class CategoryControllerIntegrationTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
     }
 
+    @Test
+    @DisplayName("Get unchanged category with its ETag, expected: status - 304")
+    @WithMockUser
+    void getCategoryById_MatchingETag_RespondNotModified() throws Exception {
+        // Given
+        String url = URI + "/" + ID_1;
+        String eTag = mockMvc.perform(get(url))
+                             .andExpect(status().isOk())
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+
+        // When
+        MvcResult result = mockMvc.perform(get(url)
+                                          .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                                  .andExpect(status().isNotModified())
+                                  .andReturn();
+
+        // Then
+        assertNotNull(eTag);
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Get categories after update with old ETag, expected: status - 200, new ETag")
+    @WithMockUser(username = "admin", roles = {"USER", "MANAGER"})
+    void getAll_ChangedAfterETag_ReturnsCategoriesWithNewETag() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get(URI))
+                             .andExpect(status().isOk())
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put(URI + "/" + ID_1)
+                       .content(objectMapper.writeValueAsString(getCategoryRequest()))
+                       .contentType(MediaType.APPLICATION_JSON))
+               .andExpect(status().isAccepted());
+
+        // When
+        MvcResult result = mockMvc.perform(get(URI)
+                                          .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        // Then
+        assertNotNull(result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertNotEquals(eTag, result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
     @Test
     @DisplayName("Get all books from existing category by ID, expected: status - 200, response - BookDto[]")
     @WithMockUser
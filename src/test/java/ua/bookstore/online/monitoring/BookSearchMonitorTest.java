@@ -0,0 +1,111 @@
+package ua.bookstore.online.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.dto.search.SearchQueryStatsDto;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+import ua.bookstore.online.repository.book.BookSearchJdbcRepository;
+import ua.bookstore.online.repository.book.BookSearchPlan;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchMonitorTest {
+    private static final long THRESHOLD_MILLIS = 100;
+    @Mock
+    private BookSearchJdbcRepository bookSearchJdbcRepository;
+    private BookSearchMonitor bookSearchMonitor;
+
+    @BeforeEach
+    void beforeEach() {
+        bookSearchMonitor = new BookSearchMonitor(bookSearchJdbcRepository, THRESHOLD_MILLIS);
+    }
+
+    @Test
+    @DisplayName("Get signature, contains only present parameters and sort")
+    void getSignature_PresentParameters_ReturnsCombination() {
+        // Given
+        BookSearchParameters parameters = new BookSearchParameters(new String[]{"Moby"},
+                new String[]{"1"}, null, new String[0], 10L, null, CategoryMatch.ALL, null);
+
+        // When
+        String actual = BookSearchMonitor.getSignature(parameters,
+                Sort.by(Sort.Order.desc("price"), Sort.Order.asc("title")));
+
+        // Then
+        assertEquals("titles+allCategories+price sort=price desc,title", actual);
+    }
+
+    @Test
+    @DisplayName("Record fast searches, aggregates latency and rows without explaining")
+    void record_FastSearches_AggregatesStats() {
+        // Given
+        BookSearchParameters parameters = new BookSearchParameters(null, null,
+                new String[]{"Orwell"}, null, null, null, null, null);
+
+        // When
+        bookSearchMonitor.record(parameters, Pageable.unpaged(),
+                TimeUnit.MILLISECONDS.toNanos(2), 4);
+        bookSearchMonitor.record(parameters, Pageable.unpaged(),
+                TimeUnit.MILLISECONDS.toNanos(4), 2);
+        List<SearchQueryStatsDto> actual = bookSearchMonitor.getStats();
+
+        // Then
+        assertEquals(1, actual.size());
+        SearchQueryStatsDto stats = actual.getFirst();
+        assertEquals("authors", stats.signature());
+        assertEquals(2, stats.count());
+        assertEquals(6.0, stats.totalMillis());
+        assertEquals(3.0, stats.meanRows());
+        assertEquals(4.0, stats.maxMillis());
+        assertNull(stats.sql());
+        verifyNoInteractions(bookSearchJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Record slow searches, explains signature only once")
+    void record_SlowSearches_CapturesPlanOnce() {
+        // Given
+        BookSearchParameters parameters = new BookSearchParameters(new String[]{"Dick"}, null,
+                null, null, null, null, null, null);
+        Pageable pageable = PageRequest.of(1, 5, Sort.by("title"));
+        BookSearchPlan plan = new BookSearchPlan("SELECT b.id FROM books b",
+                List.of(Map.of("type", "ALL")));
+        long slow = TimeUnit.MILLISECONDS.toNanos(THRESHOLD_MILLIS);
+
+        // Mocking behavior
+        when(bookSearchJdbcRepository.explainIds(any(), any(), anyLong(), anyInt()))
+                .thenReturn(Optional.of(plan));
+
+        // When
+        bookSearchMonitor.record(parameters, pageable, slow, 5);
+        bookSearchMonitor.record(parameters, pageable, slow, 5);
+        SearchQueryStatsDto actual = bookSearchMonitor.getStats().getFirst();
+
+        // Then
+        assertEquals(plan.sql(), actual.sql());
+        assertEquals(plan.explain(), actual.explain());
+        verify(bookSearchJdbcRepository, times(1))
+                .explainIds(parameters, pageable.getSort(), 5, 5);
+    }
+}
@@ -0,0 +1,42 @@
+package ua.bookstore.online.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    @Test
+    @DisplayName("Get percentiles, returns upper bound of bucket holding the rank")
+    void getPercentileMillis_RecordedLatencies_ReturnsBucketBounds() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(300));
+        }
+
+        // When
+        double p50 = histogram.getPercentileMillis(0.5);
+        double p95 = histogram.getPercentileMillis(0.95);
+
+        // Then
+        assertEquals(5.0, p50);
+        assertEquals(300.0, p95);
+        assertEquals(100, histogram.getCount());
+        assertEquals(32.7, histogram.getMeanMillis(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Get percentile of empty histogram, returns zero")
+    void getPercentileMillis_Empty_ReturnsZero() {
+        // When
+        double actual = new LatencyHistogram().getPercentileMillis(0.99);
+
+        // Then
+        assertEquals(0.0, actual);
+    }
+}
@@ -13,6 +13,7 @@ import static ua.bookstore.online.utils.TestDataUtils.tearDown;
 import static ua.bookstore.online.utils.TestDataUtils.verifyCountOfDbCalls;
 
 import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import javax.sql.DataSource;
@@ -26,8 +27,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
 import ua.bookstore.online.model.Book;
 
 @DataJpaTest
@@ -98,26 +102,54 @@ public class BookRepositoryTest {
     }
 
     @Test
-    @DisplayName("Find all from DB with categories, returns list of books")
-    void findAllBooks_GetAllBooks_ReturnsAllBooks() {
+    @DisplayName("Find page of book IDs, returns sorted and limited list of IDs")
+    void findAllIds_GetFirstPageSortedByPrice_ReturnsPageOfIds() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("price", "title"));
+
+        // When
+        List<Long> actual = bookRepository.findAllIds(pageable);
+
+        // Then
+        assertEquals(List.of(3L, ID_1), actual);
+    }
+
+    @Test
+    @DisplayName("Find IDs by specification after cursor, returns next IDs in keyset order")
+    void findIds_SpecificationAfterCursor_ReturnsNextIds() {
+        // Given
+        BookCursor cursor = new BookCursor(BigDecimal.valueOf(9.99), "Jane Eyre", 3L);
+        Specification<Book> specification = new BookSpecificationBuilder(null).after(cursor);
+        Pageable pageable = PageRequest.of(0, 5, BookCursor.SORT);
+
+        // When
+        List<Long> actual = bookRepository.findIds(specification, pageable);
+
+        // Then
+        assertEquals(List.of(ID_1, 2L), actual);
+    }
+
+    @Test
+    @DisplayName("Find books with categories by IDs, returns list of books")
+    void findAllWithCategoriesByIdIn_GetBooksByIds_ReturnsBooksWithCategories() {
         // Given
         Statistics statistics = getClearedStatistics(entityManager);
-        Pageable pageable = Pageable.unpaged();
+        List<Long> ids = List.of(ID_1, 2L, NON_EXISTING_ID);
 
         // When
-        List<Book> actual = bookRepository.findAllBooks(pageable);
+        List<Book> actual = bookRepository.findAllWithCategoriesByIdIn(ids);
 
         // Then
-        int expectedSize = 3;
+        int expectedSize = 2;
         assertEquals(expectedSize, actual.size());
         actual.stream()
                 .map(Book::getCategories)
-                .forEach(Assertions::assertNotNull);
+                .forEach(categories -> assertEquals(2, categories.size()));
         verifyCountOfDbCalls(1, statistics);
     }
 
     @Test
-    @DisplayName("Find all books witch belongs to category ID, returns list of books")
+    @DisplayName("Find all books witch belongs to category ID, returns list of book DTOs")
     void findAllByCategoryId_GetAllBooksByCategoryId_ReturnsAllBooksByCategoryId() {
         // Given
         Statistics statistics = getClearedStatistics(entityManager);
@@ -125,8 +157,10 @@ public class BookRepositoryTest {
         Long classicId = 3L;
 
         // When
-        List<Book> actualFiction = bookRepository.findAllByCategories_Id(ID_1, pageable);
-        List<Book> actualClassic = bookRepository.findAllByCategories_Id(classicId, pageable);
+        List<BookDtoWithoutCategoryIds> actualFiction =
+                bookRepository.findAllByCategoryId(ID_1, pageable);
+        List<BookDtoWithoutCategoryIds> actualClassic =
+                bookRepository.findAllByCategoryId(classicId, pageable);
 
         // Then
         assertNotNull(actualFiction);
@@ -136,6 +170,7 @@ public class BookRepositoryTest {
         assertEquals(expectedSizeFiction, actualFiction.size(), "Size should be equals");
         assertEquals(expectedSizeClassic, actualClassic.size(), "Size should be equals");
         verifyCountOfDbCalls(2, statistics);
+        assertEquals(0, statistics.getEntityLoadCount(), "No entity should be hydrated");
     }
 
     @Test
@@ -0,0 +1,123 @@
+package ua.bookstore.online.repository.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+
+class BookSearchQueryCompilerTest {
+    private BookSearchQueryCompiler compiler;
+
+    @BeforeEach
+    void beforeEach() {
+        compiler = new BookSearchQueryCompiler();
+    }
+
+    @Test
+    @DisplayName("Compile id query, binds only values of present parameters")
+    void compileIdQuery_PresentParameters_ReturnsTemplateWithPositionalBinds() {
+        // Given
+        BookSearchParameters parameters = new BookSearchParameters(new String[]{"Moby", "Dick"},
+                new String[]{"1", "3", "1"}, null, null, 10L, null, CategoryMatch.ALL, null);
+        String expectedSql = "SELECT b.id FROM books b WHERE b.is_deleted = FALSE"
+                + " AND (LOWER(b.title) LIKE ? OR LOWER(b.title) LIKE ?)"
+                + " AND b.id IN (SELECT bc.book_id FROM books_categories bc"
+                + " WHERE bc.category_id IN (?, ?)"
+                + " GROUP BY bc.book_id HAVING COUNT(DISTINCT bc.category_id) = ?)"
+                + " AND b.price BETWEEN ? AND ?"
+                + " ORDER BY b.price DESC, b.id ASC LIMIT ? OFFSET ?";
+        List<Object> expectedArguments = List.of("%moby%", "%dick%", 1L, 3L, 2,
+                BigDecimal.valueOf(10), BigDecimal.valueOf(Long.MAX_VALUE), 20, 40L);
+
+        // When
+        Optional<BookSearchQuery> actual = compiler.compileIdQuery(parameters,
+                Sort.by(Sort.Order.desc("price"), Sort.Order.asc("id")), 40, 20);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(expectedSql, actual.get().sql());
+        assertEquals(expectedArguments, actual.get().arguments());
+    }
+
+    @Test
+    @DisplayName("Compile queries of the same shape, reuses cached template")
+    void compileIdQuery_SameShape_ReusesTemplate() {
+        // Given
+        BookSearchParameters first = new BookSearchParameters(null, null,
+                new String[]{"Orwell"}, null, null, null, null, null);
+        BookSearchParameters second = new BookSearchParameters(null, null,
+                new String[]{"Melville"}, null, null, null, null, null);
+        Sort sort = Sort.by("title", "id");
+
+        // When
+        BookSearchQuery firstQuery = compiler.compileIdQuery(first, sort, 0, 10).orElseThrow();
+        BookSearchQuery secondQuery = compiler.compileIdQuery(second, sort, 10, 10).orElseThrow();
+
+        // Then
+        assertSame(firstQuery.sql(), secondQuery.sql());
+        assertEquals(List.of("%melville%", 10, 10L), secondQuery.arguments());
+        assertEquals(1, compiler.getTemplateCount());
+    }
+
+    @Test
+    @DisplayName("Compile id query sorted by unknown property, returns empty optional")
+    void compileIdQuery_UnknownSortProperty_ReturnsEmpty() {
+        // Given
+        BookSearchParameters parameters = new BookSearchParameters(null, null, null, null, null,
+                null, null, null);
+
+        // When
+        Optional<BookSearchQuery> actual = compiler.compileIdQuery(parameters,
+                Sort.by("categories"), 0, 10);
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Compile count query for any categories, returns count template")
+    void compileCountQuery_AnyCategories_ReturnsCountTemplate() {
+        // Given
+        BookSearchParameters parameters = new BookSearchParameters(null, new String[]{"2"},
+                null, new String[]{"978"}, null, null, null, null);
+        String expectedSql = "SELECT COUNT(*) FROM books b WHERE b.is_deleted = FALSE"
+                + " AND b.id IN (SELECT bc.book_id FROM books_categories bc"
+                + " WHERE bc.category_id IN (?))"
+                + " AND (LOWER(b.isbn) LIKE ?)";
+
+        // When
+        BookSearchQuery actual = compiler.compileCountQuery(parameters);
+
+        // Then
+        assertEquals(expectedSql, actual.sql());
+        assertEquals(List.of(2L, "%978%"), actual.arguments());
+    }
+
+    @Test
+    @DisplayName("Compile queries for padded and plain terms, binds the same value as cache key")
+    void compileCountQuery_PaddedTerm_BindsSameTermAsCacheKey() {
+        // Given
+        BookSearchParameters padded = new BookSearchParameters(new String[]{" War "}, null,
+                null, null, null, null, null, null);
+        BookSearchParameters plain = new BookSearchParameters(new String[]{"war"}, null,
+                null, null, null, null, null, null);
+
+        // When
+        BookSearchQuery paddedQuery = compiler.compileCountQuery(padded);
+        BookSearchQuery plainQuery = compiler.compileCountQuery(plain);
+
+        // Then
+        assertEquals(BookSearchKey.of(plain), BookSearchKey.of(padded));
+        assertEquals(List.of("%war%"), paddedQuery.arguments());
+        assertEquals(plainQuery.arguments(), paddedQuery.arguments());
+    }
+}
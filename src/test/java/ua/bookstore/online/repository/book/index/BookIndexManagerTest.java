@@ -0,0 +1,85 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwellBook;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.event.BookDeletedEvent;
+import ua.bookstore.online.mapper.BookMapper;
+import ua.bookstore.online.model.Book;
+import ua.bookstore.online.repository.book.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookIndexManagerTest {
+    @Mock
+    private BookIndex bookIndex;
+    @Mock
+    private LuceneBookIndex luceneBookIndex;
+    @Mock
+    private CategoryBookIndex categoryBookIndex;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private BookMapper bookMapper;
+    private BookIndexManager manager;
+
+    @BeforeEach
+    void beforeEach() {
+        manager = new BookIndexManager(List.of(bookIndex), luceneBookIndex, categoryBookIndex,
+                bookRepository, bookMapper, true, 2);
+    }
+
+    @Test
+    @DisplayName("Rebuild, book deleted while its batch is loaded, removes book after batch")
+    void rebuild_BookDeletedDuringRebuild_ReplaysDeletionAfterBatch() {
+        // Given
+        Book book = getOrwellBook();
+
+        // Mocking behavior
+        when(bookRepository.findIds(any(), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(List.of(ID_1));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(ID_1))).thenAnswer(invocation -> {
+            manager.onBookDeleted(new BookDeletedEvent(ID_1));
+            return List.of(book);
+        });
+        when(bookMapper.toDto(book)).thenReturn(getOrwell());
+
+        // When
+        manager.rebuild();
+
+        // Then
+        InOrder inOrder = inOrder(bookIndex);
+        inOrder.verify(bookIndex).clear();
+        inOrder.verify(bookIndex).indexAll(List.of(getOrwell()));
+        inOrder.verify(bookIndex).remove(ID_1);
+        inOrder.verifyNoMoreInteractions();
+        assertTrue(manager.isReady());
+    }
+
+    @Test
+    @DisplayName("Book deleted after rebuild, removes book right away")
+    void onBookDeleted_NotRebuilding_RemovesBook() {
+        // When
+        manager.onBookDeleted(new BookDeletedEvent(ID_1));
+
+        // Then
+        InOrder inOrder = inOrder(bookIndex);
+        inOrder.verify(bookIndex).remove(ID_1);
+        inOrder.verifyNoMoreInteractions();
+    }
+}
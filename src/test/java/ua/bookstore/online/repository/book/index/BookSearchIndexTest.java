@@ -0,0 +1,213 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.getMelville;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import ua.bookstore.online.dto.book.BookFacetsDto;
+import ua.bookstore.online.dto.book.PriceBucketDto;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.exception.SearchIndexException;
+import ua.bookstore.online.exception.SearchTooBroadException;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchIndexTest {
+    private static final int MAX_CANDIDATES = 10;
+    private static final int PREFIX_LENGTH = 7;
+    @Mock
+    private BookIndexManager bookIndexManager;
+    @Mock
+    private LuceneBookIndex luceneBookIndex;
+    private TrigramBookIndex trigramBookIndex;
+    private CategoryBookIndex categoryBookIndex;
+    private PriceBookIndex priceBookIndex;
+    private FuzzyWordIndex fuzzyWordIndex;
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        trigramBookIndex = new TrigramBookIndex();
+        categoryBookIndex = new CategoryBookIndex();
+        priceBookIndex = new PriceBookIndex();
+        fuzzyWordIndex = new FuzzyWordIndex(PREFIX_LENGTH, MAX_CANDIDATES);
+        List.of(trigramBookIndex, categoryBookIndex, priceBookIndex, fuzzyWordIndex)
+                .forEach(index -> {
+                    index.index(getOrwell());
+                    index.index(getMelville());
+                });
+        bookSearchIndex = new BookSearchIndex(bookIndexManager, trigramBookIndex,
+                categoryBookIndex, priceBookIndex,
+                new SuggestionBookIndex(MAX_CANDIDATES, PREFIX_LENGTH), luceneBookIndex,
+                fuzzyWordIndex, MAX_CANDIDATES, MAX_CANDIDATES,
+                new BigDecimal[]{BigDecimal.valueOf(14), BigDecimal.TEN});
+    }
+
+    @Test
+    @DisplayName("Find candidates while index is building, returns empty optional")
+    void findCandidates_IndexNotReady_ReturnsEmpty() {
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(false);
+
+        // When
+        Optional<IdBitmap> actual = bookSearchIndex.findCandidates(parameters("moby", null));
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find candidates by author and price, returns intersection")
+    void findCandidates_AuthorAndMaxPrice_ReturnsIntersection() {
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(true);
+
+        // When
+        Optional<IdBitmap> actual = bookSearchIndex.findCandidates(parameters("r", 13L));
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertArrayEquals(new int[]{1}, actual.get().toArray());
+    }
+
+    @Test
+    @DisplayName("Find candidates by misspelled author with fuzzy option, returns corrected match")
+    void findCandidates_MisspelledAuthorFuzzy_ReturnsCorrectedMatch() {
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(true);
+
+        // When
+        Optional<IdBitmap> exact = bookSearchIndex.findCandidates(parameters("Orwel", null));
+        Optional<IdBitmap> fuzzy = bookSearchIndex.findCandidates(
+                parameters("Gorge Orwlel", null, true));
+
+        // Then
+        assertTrue(exact.isPresent());
+        assertArrayEquals(new int[]{1}, exact.get().toArray());
+        assertTrue(fuzzy.isPresent());
+        assertArrayEquals(new int[]{1}, fuzzy.get().toArray());
+    }
+
+    @Test
+    @DisplayName("Find candidates by broad fuzzy author above the cap, throws exception")
+    void findCandidates_BroadFuzzyAboveCap_ThrowsException() {
+        // Given
+        BookSearchIndex cappedIndex = new BookSearchIndex(bookIndexManager,
+                trigramBookIndex, categoryBookIndex, priceBookIndex,
+                new SuggestionBookIndex(MAX_CANDIDATES, PREFIX_LENGTH), luceneBookIndex,
+                fuzzyWordIndex, 1, 1, new BigDecimal[]{BigDecimal.TEN});
+
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(true);
+
+        // When
+        Optional<IdBitmap> exact = cappedIndex.findCandidates(parameters("e", null));
+
+        // Then
+        assertTrue(exact.isEmpty());
+        assertThrows(SearchTooBroadException.class,
+                () -> cappedIndex.findCandidates(parameters("e", null, true)));
+    }
+
+    @Test
+    @DisplayName("Find ids ordered by descending price, returns page from price index")
+    void findIndexOrderedIds_DescendingPrice_ReturnsPage() {
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(true);
+
+        // When
+        Optional<List<Long>> actual = bookSearchIndex.findIndexOrderedIds(parameters(null, null),
+                Sort.by(Sort.Direction.DESC, "price").and(Sort.by("id")), 0, 5);
+
+        // Then
+        assertEquals(Optional.of(List.of(2L, 1L)), actual);
+    }
+
+    @Test
+    @DisplayName("Find ids ordered by descending id, pages matches in memory")
+    void findIndexOrderedIds_DescendingId_ReturnsPage() {
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(true);
+
+        // When
+        Optional<List<Long>> actual = bookSearchIndex.findIndexOrderedIds(parameters("e", null),
+                Sort.by(Sort.Direction.DESC, "id"), 1, 5);
+
+        // Then
+        assertEquals(Optional.of(List.of(1L)), actual);
+    }
+
+    @Test
+    @DisplayName("Find SQL candidates above the SQL cap, returns empty optional")
+    void findSqlCandidates_AboveSqlCap_ReturnsEmpty() {
+        // Given
+        BookSearchIndex cappedIndex = new BookSearchIndex(bookIndexManager,
+                trigramBookIndex, categoryBookIndex, priceBookIndex,
+                new SuggestionBookIndex(MAX_CANDIDATES, PREFIX_LENGTH), luceneBookIndex,
+                fuzzyWordIndex, MAX_CANDIDATES, 1, new BigDecimal[]{BigDecimal.TEN});
+
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(true);
+
+        // When
+        Optional<IdBitmap> candidates = cappedIndex.findCandidates(parameters("e", null));
+        Optional<IdBitmap> sqlCandidates = cappedIndex.findSqlCandidates(parameters("e", null));
+
+        // Then
+        assertTrue(candidates.isPresent());
+        assertTrue(sqlCandidates.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Count facets without filters, returns counts for all books")
+    void countFacets_NoFilters_ReturnsCountsForAllBooks() {
+        // Given
+        BookFacetsDto expected = new BookFacetsDto(
+                Map.of(1L, 2L, 2L, 1L, 3L, 1L),
+                List.of(new PriceBucketDto(null, BigDecimal.TEN, 0),
+                        new PriceBucketDto(BigDecimal.TEN, BigDecimal.valueOf(14), 1),
+                        new PriceBucketDto(BigDecimal.valueOf(14), null, 1)));
+
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(true);
+
+        // When
+        Optional<BookFacetsDto> actual = bookSearchIndex.countFacets(parameters(null, null));
+
+        // Then
+        assertEquals(Optional.of(expected), actual);
+    }
+
+    @Test
+    @DisplayName("Rank books while index is building, throws exception")
+    void rank_IndexNotReady_ThrowsException() {
+        // Mocking behavior
+        when(bookIndexManager.isReady()).thenReturn(false);
+
+        // When
+        assertThrows(SearchIndexException.class, () -> bookSearchIndex.rank("orwell", 5));
+    }
+
+    private BookSearchParameters parameters(String author, Long maxPrice) {
+        return parameters(author, maxPrice, false);
+    }
+
+    private BookSearchParameters parameters(String author, Long maxPrice, boolean fuzzy) {
+        return new BookSearchParameters(null, null,
+                author == null ? null : new String[]{author}, null, null, maxPrice, null, fuzzy);
+    }
+}
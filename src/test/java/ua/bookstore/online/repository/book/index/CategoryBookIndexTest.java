@@ -0,0 +1,93 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+import static ua.bookstore.online.utils.TestDataUtils.ID_3;
+import static ua.bookstore.online.utils.TestDataUtils.NON_EXISTING_ID;
+import static ua.bookstore.online.utils.TestDataUtils.getMelville;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.search.parameters.CategoryMatch;
+
+class CategoryBookIndexTest {
+    private CategoryBookIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new CategoryBookIndex();
+        index.index(getOrwell());
+        index.index(getMelville());
+    }
+
+    @Test
+    @DisplayName("Search any of categories, returns union of books")
+    void search_AnyMatch_ReturnsUnion() {
+        // When
+        IdBitmap actual = index.search(List.of(ID_2, ID_3), CategoryMatch.ANY);
+
+        // Then
+        assertArrayEquals(new int[]{1, 2}, actual.toArray());
+    }
+
+    @Test
+    @DisplayName("Search all of categories, returns intersection of books")
+    void search_AllMatch_ReturnsIntersection() {
+        // When
+        IdBitmap actual = index.search(List.of(ID_1, ID_3), CategoryMatch.ALL);
+
+        // Then
+        assertArrayEquals(new int[]{2}, actual.toArray());
+    }
+
+    @Test
+    @DisplayName("Search all of categories with unknown category, returns no books")
+    void search_AllMatchWithUnknownCategory_ReturnsEmpty() {
+        // When
+        IdBitmap actual = index.search(List.of(ID_1, NON_EXISTING_ID), CategoryMatch.ALL);
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Reindex book with other categories, moves book between categories")
+    void index_ChangedCategories_MovesBook() {
+        // Given
+        BookDto orwell = getOrwell();
+        BookDto updated = BookDto.builder()
+                                 .id(orwell.id())
+                                 .title(orwell.title())
+                                 .author(orwell.author())
+                                 .isbn(orwell.isbn())
+                                 .price(orwell.price())
+                                 .categoryIds(Set.of(ID_3))
+                                 .build();
+
+        // When
+        index.index(updated);
+
+        // Then
+        assertArrayEquals(new int[]{2}, index.search(List.of(ID_1), CategoryMatch.ANY).toArray());
+        assertArrayEquals(new int[]{1, 2},
+                index.search(List.of(ID_3), CategoryMatch.ALL).toArray());
+    }
+
+    @Test
+    @DisplayName("Remove book, excludes it from every category")
+    void remove_IndexedBook_ExcludesFromCategories() {
+        // When
+        index.remove(ID_2);
+
+        // Then
+        assertTrue(index.search(List.of(ID_3), CategoryMatch.ANY).isEmpty());
+        assertArrayEquals(new int[]{1}, index.search(List.of(ID_1), CategoryMatch.ANY).toArray());
+    }
+}
@@ -0,0 +1,84 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.bookstore.online.dto.book.BookDto;
+
+class FuzzyWordIndexTest {
+    private static final int PREFIX_LENGTH = 7;
+    private static final int MAX_CORRECTIONS = 10;
+    private FuzzyWordIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new FuzzyWordIndex(PREFIX_LENGTH, MAX_CORRECTIONS);
+        index.index(book(1L, "The Hobbit", "J. R. R. Tolkien"));
+        index.index(book(2L, "1984", "George Orwell"));
+        index.index(book(3L, "The Silmarillion", "J. R. R. Tolkien"));
+    }
+
+    @Test
+    @DisplayName("Correct word with transposed letters, returns vocabulary word")
+    void correct_TransposedLetters_ReturnsWord() {
+        // When
+        List<String> actual = index.correct("tolkein");
+
+        // Then
+        assertEquals(List.of("tolkien"), actual);
+    }
+
+    @Test
+    @DisplayName("Correct long word with typo beyond prefix, returns vocabulary word")
+    void correct_TypoInLongWord_ReturnsWord() {
+        // When
+        List<String> actual = index.correct("silmarilion");
+
+        // Then
+        assertEquals(List.of("silmarillion"), actual);
+    }
+
+    @Test
+    @DisplayName("Correct words of several lengths, returns closest vocabulary words")
+    void correct_WordsOfSeveralLengths_ReturnsClosestWords() {
+        // When
+        List<String> oneEdit = index.correct("hobit");
+        List<String> threeLetters = index.correct("tha");
+
+        // Then
+        assertEquals(List.of("hobbit"), oneEdit);
+        assertEquals(List.of("the"), threeLetters);
+        assertTrue(index.correct("xyz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Remove book, removes words used only by the book")
+    void remove_IndexedBook_RemovesOwnWords() {
+        // When
+        index.remove(2L);
+
+        // Then
+        assertTrue(index.correct("orwel").isEmpty());
+        assertEquals(List.of("tolkien"), index.correct("tolkein"));
+    }
+
+    @Test
+    @DisplayName("Measure distance with transposition, counts it as one edit")
+    void distance_Transposition_CountsOneEdit() {
+        // Then
+        assertEquals(1, FuzzyWordIndex.distance("orwlel", "orwell", 2));
+        assertTrue(FuzzyWordIndex.distance("orwell", "melville", 2) > 2);
+    }
+
+    private BookDto book(Long id, String title, String author) {
+        return BookDto.builder()
+                      .id(id)
+                      .title(title)
+                      .author(author)
+                      .build();
+    }
+}
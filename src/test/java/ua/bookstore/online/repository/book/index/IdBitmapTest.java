@@ -0,0 +1,86 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdBitmapTest {
+    private static final int DENSE_SIZE = 10_000;
+
+    @Test
+    @DisplayName("Add ids in random order, iterates them in ascending order")
+    void toArray_UnorderedIds_ReturnsSortedIds() {
+        // Given
+        IdBitmap bitmap = IdBitmap.of(70_000, 3, 1, 65_536, 3);
+
+        // When
+        int[] actual = bitmap.toArray();
+
+        // Then
+        assertArrayEquals(new int[]{1, 3, 65_536, 70_000}, actual);
+        assertEquals(4, bitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("Add more ids than sparse container holds, keeps all ids")
+    void add_DenseIds_KeepsAllIds() {
+        // Given
+        IdBitmap bitmap = new IdBitmap();
+
+        // When
+        IntStream.range(0, DENSE_SIZE).forEach(bitmap::add);
+
+        // Then
+        assertEquals(DENSE_SIZE, bitmap.cardinality());
+        assertTrue(bitmap.contains(DENSE_SIZE - 1));
+        assertFalse(bitmap.contains(DENSE_SIZE));
+    }
+
+    @Test
+    @DisplayName("Remove ids, removes only given ids")
+    void remove_ExistingIds_RemovesIds() {
+        // Given
+        IdBitmap bitmap = new IdBitmap();
+        IntStream.range(0, DENSE_SIZE).forEach(bitmap::add);
+
+        // When
+        IntStream.range(1, DENSE_SIZE).forEach(bitmap::remove);
+
+        // Then
+        assertArrayEquals(new int[]{0}, bitmap.toArray());
+    }
+
+    @Test
+    @DisplayName("Intersect and union bitmaps, returns new bitmaps")
+    void andOr_TwoBitmaps_ReturnsIntersectionAndUnion() {
+        // Given
+        IdBitmap first = IdBitmap.of(1, 2, 3, 100_000);
+        IdBitmap second = new IdBitmap();
+        IntStream.range(2, DENSE_SIZE).forEach(second::add);
+
+        // When
+        IdBitmap intersection = first.and(second);
+        IdBitmap union = first.or(second);
+
+        // Then
+        assertArrayEquals(new int[]{2, 3}, intersection.toArray());
+        assertEquals(DENSE_SIZE + 1, union.cardinality());
+        assertEquals(4, first.cardinality());
+    }
+
+    @Test
+    @DisplayName("Add negative id, throws exception")
+    void add_NegativeId_ThrowsException() {
+        // Given
+        IdBitmap bitmap = new IdBitmap();
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+}
@@ -0,0 +1,145 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+import static ua.bookstore.online.utils.TestDataUtils.ID_3;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.model.Category;
+import ua.bookstore.online.repository.category.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneBookIndexTest {
+    @Mock
+    private CategoryRepository categoryRepository;
+    private LuceneBookIndex index;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                category(ID_1, "Dystopia"), category(ID_2, "Adventure")));
+        index = new LuceneBookIndex(categoryRepository);
+        index.index(book(ID_1, "1984", "George Orwell", "A novel about Big Brother", ID_1));
+        index.index(book(ID_2, "Moby-Dick", "Herman Melville", "The whale hunt", ID_2));
+        index.index(book(ID_3, "The Whale", "Philip Hoare", "Whales in history and Moby-Dick",
+                ID_2));
+        index.refresh();
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Search by words of title, ranks title match above description match")
+    void search_TitleWords_RanksTitleMatchFirst() {
+        // When
+        List<Long> actual = index.search("moby dick", 5);
+
+        // Then
+        assertEquals(List.of(ID_2, ID_3), actual);
+    }
+
+    @Test
+    @DisplayName("Search by category name, returns books of the category")
+    void search_CategoryName_ReturnsBooksOfCategory() {
+        // When
+        List<Long> actual = index.search("dystopia", 5);
+
+        // Then
+        assertEquals(List.of(ID_1), actual);
+    }
+
+    @Test
+    @DisplayName("Search after book removed and reindexed, reflects changes")
+    void search_AfterRemoveAndReindex_ReflectsChanges() {
+        // When
+        index.remove(ID_2);
+        index.index(book(ID_1, "Animal Farm", "George Orwell", "A farm", ID_1));
+        index.refresh();
+
+        // Then
+        assertEquals(List.of(ID_3), index.search("moby", 5));
+        assertTrue(index.search("1984", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search after book reindexed, reflects changes only once index is refreshed")
+    void search_BeforeRefresh_ReturnsPreviousResults() {
+        // When
+        index.index(book(ID_1, "Brave New World", "Aldous Huxley", "A World State", ID_1));
+
+        // Then
+        assertTrue(index.search("huxley", 5).isEmpty());
+        index.refresh();
+        assertEquals(List.of(ID_1), index.search("huxley", 5));
+    }
+
+    @Test
+    @DisplayName("Update category name, renamed category requires reindex and is searchable")
+    void updateCategoryName_Renamed_ReindexedBooksMatchNewName() {
+        // When
+        boolean actual = index.updateCategoryName(ID_1, "Utopia");
+        index.index(book(ID_1, "1984", "George Orwell", "A novel about Big Brother", ID_1));
+        index.refresh();
+
+        // Then
+        assertTrue(actual);
+        assertEquals(List.of(ID_1), index.search("utopia", 5));
+        assertTrue(index.search("dystopia", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Update category name, unchanged or unknown category requires no reindex")
+    void updateCategoryName_UnchangedOrUnknown_ReturnsFalse() {
+        // When
+        boolean unchanged = index.updateCategoryName(ID_2, "Adventure");
+        boolean unknown = index.updateCategoryName(ID_3, "Poetry");
+
+        // Then
+        assertFalse(unchanged);
+        assertFalse(unknown);
+    }
+
+    @Test
+    @DisplayName("Search by query without words, returns no books")
+    void search_NoWords_ReturnsEmpty() {
+        // When
+        List<Long> actual = index.search(" ?! ", 5);
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    private BookDto book(Long id, String title, String author, String description,
+            Long categoryId) {
+        return BookDto.builder()
+                      .id(id)
+                      .title(title)
+                      .author(author)
+                      .description(description)
+                      .categoryIds(Set.of(categoryId))
+                      .build();
+    }
+
+    private Category category(Long id, String name) {
+        Category category = new Category(id);
+        category.setName(name);
+        return category;
+    }
+}
@@ -0,0 +1,100 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.bookstore.online.dto.book.BookDto;
+
+class PriceBookIndexTest {
+    private PriceBookIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new PriceBookIndex();
+        index.index(book(1L, "12.99"));
+        index.index(book(2L, "14.99"));
+        index.index(book(3L, "9.99"));
+        index.index(book(4L, "12.99"));
+    }
+
+    @Test
+    @DisplayName("Find books in inclusive price range, returns matching ids")
+    void findInRange_PriceRange_ReturnsIdsInRange() {
+        // When
+        IdBitmap actual = index.findInRange(999, 1299);
+
+        // Then
+        assertArrayEquals(new int[]{1, 3, 4}, actual.toArray());
+    }
+
+    @Test
+    @DisplayName("Find page ordered by price, returns ids in price and id order")
+    void findPage_AscendingPrice_ReturnsOrderedPage() {
+        // When
+        List<Long> actual = index.findPage(null, Long.MIN_VALUE, Long.MAX_VALUE,
+                false, false, 1, 2);
+
+        // Then
+        assertEquals(List.of(1L, 4L), actual);
+    }
+
+    @Test
+    @DisplayName("Find page ordered by descending price and ascending id, keeps id order in ties")
+    void findPage_DescendingPriceAscendingId_ReturnsOrderedPage() {
+        // When
+        List<Long> actual = index.findPage(null, Long.MIN_VALUE, Long.MAX_VALUE,
+                true, false, 0, 4);
+
+        // Then
+        assertEquals(List.of(2L, 1L, 4L, 3L), actual);
+    }
+
+    @Test
+    @DisplayName("Find page with filter and range, skips filtered out books")
+    void findPage_WithFilter_ReturnsOnlyFilteredIds() {
+        // When
+        List<Long> actual = index.findPage(IdBitmap.of(2, 3, 4), 1000, Long.MAX_VALUE,
+                false, false, 0, 5);
+
+        // Then
+        assertEquals(List.of(4L, 2L), actual);
+    }
+
+    @Test
+    @DisplayName("Reindex book with new price and remove book, updates ranges")
+    void index_ChangedPriceAndRemovedBook_UpdatesRanges() {
+        // When
+        index.index(book(1L, "20.00"));
+        index.remove(4L);
+
+        // Then
+        assertTrue(index.findInRange(1000, 1299).isEmpty());
+        assertArrayEquals(new int[]{1}, index.findInRange(2000, 2000).toArray());
+    }
+
+    @Test
+    @DisplayName("Index batch of new and changed books, merges them into price order")
+    void indexAll_NewAndChangedBooks_MergesInPriceOrder() {
+        // When
+        index.indexAll(List.of(book(5L, "12.99"), book(3L, "13.50"), book(6L, "1.00")));
+
+        // Then
+        assertEquals(List.of(6L, 1L, 4L, 5L, 3L, 2L), index.findPage(null, Long.MIN_VALUE,
+                Long.MAX_VALUE, false, false, 0, 10));
+        assertArrayEquals(new long[]{1, 3, 2}, index.countByBucket(IdBitmap.of(1, 2, 3, 4, 5, 6),
+                new long[]{1000, 1300}));
+    }
+
+    private BookDto book(Long id, String price) {
+        return BookDto.builder()
+                      .id(id)
+                      .price(new BigDecimal(price))
+                      .build();
+    }
+}
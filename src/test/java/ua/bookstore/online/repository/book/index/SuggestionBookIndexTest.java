@@ -0,0 +1,99 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookSuggestionDto;
+import ua.bookstore.online.dto.book.SuggestionType;
+
+class SuggestionBookIndexTest {
+    private static final int MAX_SUGGESTIONS = 3;
+    private static final int MAX_PREFIX_LENGTH = 4;
+    private SuggestionBookIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new SuggestionBookIndex(MAX_SUGGESTIONS, MAX_PREFIX_LENGTH);
+        index.index(book(1L, "1984", "George Orwell"));
+        index.index(book(2L, "Animal Farm", "George Orwell"));
+        index.index(book(3L, "Moby-Dick", "Herman Melville"));
+        index.index(book(4L, "Omoo", "Herman Melville"));
+        index.index(book(5L, "Typee", "Herman Melville"));
+    }
+
+    @Test
+    @DisplayName("Suggest by prefix of a word, returns completions by weight")
+    void suggest_WordPrefix_ReturnsCompletionsByWeight() {
+        // Given
+        List<BookSuggestionDto> expected = List.of(
+                new BookSuggestionDto("Herman Melville", SuggestionType.AUTHOR, 3),
+                new BookSuggestionDto("Moby-Dick", SuggestionType.TITLE, 1));
+
+        // When
+        List<BookSuggestionDto> actual = index.suggest("M", 5);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Suggest by prefix inside a word, returns no completions")
+    void suggest_PrefixInsideWord_ReturnsEmpty() {
+        // When
+        List<BookSuggestionDto> actual = index.suggest("rwell", 5);
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Suggest with limit, returns at most limit completions")
+    void suggest_WithLimit_ReturnsLimitedCompletions() {
+        // When
+        List<BookSuggestionDto> actual = index.suggest("o", 1);
+
+        // Then
+        assertEquals(List.of(new BookSuggestionDto("George Orwell", SuggestionType.AUTHOR, 2)),
+                actual);
+    }
+
+    @Test
+    @DisplayName("Suggest by prefix longer than indexed depth, matches the whole prefix")
+    void suggest_PrefixLongerThanIndexedDepth_MatchesWholePrefix() {
+        // When
+        List<BookSuggestionDto> actual = index.suggest("herman mel", 5);
+
+        // Then
+        assertEquals(List.of(new BookSuggestionDto("Herman Melville", SuggestionType.AUTHOR, 3)),
+                actual);
+        assertTrue(index.suggest("herman x", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Reindex and remove books, updates completions and weights")
+    void index_ChangedAndRemovedBooks_UpdatesCompletions() {
+        // When
+        index.index(book(2L, "Homage to Catalonia", "George Orwell"));
+        index.remove(1L);
+
+        // Then
+        assertTrue(index.suggest("anim", 5).isEmpty());
+        assertEquals(List.of(new BookSuggestionDto("George Orwell", SuggestionType.AUTHOR, 1)),
+                index.suggest("geo", 5));
+        assertEquals(List.of(new BookSuggestionDto("Homage to Catalonia",
+                SuggestionType.TITLE, 1)), index.suggest("cata", 5));
+    }
+
+    private BookDto book(Long id, String title, String author) {
+        return BookDto.builder()
+                      .id(id)
+                      .title(title)
+                      .author(author)
+                      .build();
+    }
+}
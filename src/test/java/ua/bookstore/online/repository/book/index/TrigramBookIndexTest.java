@@ -0,0 +1,96 @@
+package ua.bookstore.online.repository.book.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.getMelville;
+import static ua.bookstore.online.utils.TestDataUtils.getNewOrwell;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.bookstore.online.repository.book.BookSearchParameter;
+
+class TrigramBookIndexTest {
+    private TrigramBookIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new TrigramBookIndex();
+        index.index(getOrwell());
+        index.index(getMelville());
+    }
+
+    @Test
+    @DisplayName("Search by partial author in other case, returns matching ids")
+    void search_PartialAuthor_ReturnsMatchingIds() {
+        // When
+        IdBitmap actual = index.search(BookSearchParameter.AUTHOR, new String[]{"ORWEL"});
+
+        // Then
+        assertArrayEquals(new int[]{1}, actual.toArray());
+    }
+
+    @Test
+    @DisplayName("Search by several terms, returns union of matches")
+    void search_SeveralTerms_ReturnsUnion() {
+        // When
+        IdBitmap actual = index.search(BookSearchParameter.TITLE, new String[]{"198", "dick"});
+
+        // Then
+        assertArrayEquals(new int[]{1, 2}, actual.toArray());
+    }
+
+    @Test
+    @DisplayName("Search by short term, returns matches found by scan")
+    void search_ShortTerm_ReturnsMatchingIds() {
+        // When
+        IdBitmap actual = index.search(BookSearchParameter.ISBN, new String[]{"78"});
+
+        // Then
+        assertArrayEquals(new int[]{1, 2}, actual.toArray());
+    }
+
+    @Test
+    @DisplayName("Search by term with all grams present but not adjacent, returns no ids")
+    void search_GramsNotAdjacent_ReturnsEmpty() {
+        // When
+        IdBitmap actual = index.search(BookSearchParameter.AUTHOR, new String[]{"orge orwel mel"});
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search by accented term, ignores diacritics")
+    void search_AccentedTerm_IgnoresDiacritics() {
+        // When
+        IdBitmap actual = index.search(BookSearchParameter.TITLE, new String[]{"Móby"});
+
+        // Then
+        assertArrayEquals(new int[]{2}, actual.toArray());
+    }
+
+    @Test
+    @DisplayName("Reindex updated book, replaces old values")
+    void index_UpdatedBook_ReplacesOldValues() {
+        // When
+        index.index(getNewOrwell("Animal Farm"));
+
+        // Then
+        assertTrue(index.search(BookSearchParameter.TITLE, new String[]{"1984"}).isEmpty());
+        assertArrayEquals(new int[]{ID_1.intValue()},
+                index.search(BookSearchParameter.TITLE, new String[]{"farm"}).toArray());
+    }
+
+    @Test
+    @DisplayName("Remove book, excludes it from search")
+    void remove_IndexedBook_ExcludesFromSearch() {
+        // When
+        index.remove(ID_1);
+
+        // Then
+        assertTrue(index.search(BookSearchParameter.AUTHOR, new String[]{"orwell"}).isEmpty());
+    }
+}
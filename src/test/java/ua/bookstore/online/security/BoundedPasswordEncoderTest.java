@@ -0,0 +1,120 @@
+package ua.bookstore.online.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ua.bookstore.online.exception.PasswordHashingRejectedException;
+
+class BoundedPasswordEncoderTest {
+    private static final String PASSWORD = "password";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void afterEach() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Encode and match password on executor, behaves like BCrypt")
+    void matches_EncodedPassword_ReturnsTrueOnlyForSamePassword() {
+        // Given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1,
+                TIMEOUT);
+
+        // When
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        // Then
+        assertTrue(passwordEncoder.matches(PASSWORD, encoded));
+        assertFalse(passwordEncoder.matches("other", encoded));
+    }
+
+    @Test
+    @DisplayName("Check upgrade of hash with lower strength, returns true")
+    void upgradeEncoding_LowerStrength_ReturnsTrue() {
+        // Given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1,
+                TIMEOUT);
+        String encoded = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        // When
+        boolean actual = passwordEncoder.upgradeEncoding(encoded);
+
+        // Then
+        assertTrue(actual);
+    }
+
+    @Test
+    @DisplayName("Encode while workers and queue are full, rejects immediately")
+    void encode_SaturatedExecutor_ThrowsException() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(new BlockingEncoder(started, release), 1, 1,
+                TIMEOUT);
+        CompletableFuture<String> running =
+                CompletableFuture.supplyAsync(() -> passwordEncoder.encode(PASSWORD));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued =
+                CompletableFuture.supplyAsync(() -> passwordEncoder.encode(PASSWORD));
+        while (!queued.isDone() && passwordEncoder.getQueuedTasks() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        assertThrows(PasswordHashingRejectedException.class,
+                () -> passwordEncoder.encode(PASSWORD));
+
+        // Then
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Encode while waiting longer than timeout, rejects waiting request")
+    void encode_WaitLongerThanTimeout_ThrowsException() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(new BlockingEncoder(started, release), 1, 1,
+                Duration.ofMillis(50));
+
+        // When
+        assertThrows(PasswordHashingRejectedException.class,
+                () -> passwordEncoder.encode(PASSWORD));
+
+        // Then
+        release.countDown();
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release)
+            implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
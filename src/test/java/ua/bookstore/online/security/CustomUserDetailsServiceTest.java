@@ -0,0 +1,114 @@
+package ua.bookstore.online.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.USER_EMAIL;
+import static ua.bookstore.online.utils.TestDataUtils.getUser;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.event.UserChangedEvent;
+import ua.bookstore.online.model.User;
+import ua.bookstore.online.repository.user.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void beforeEach() {
+        userDetailsService = new CustomUserDetailsService(userRepository,
+                new ExpiringCache<>("userDetails", 10, Duration.ofMinutes(5)), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Load the same user twice in different case, queries DB once")
+    void loadUserByUsername_SameEmailTwice_QueriesOnce() {
+        // Given
+        User user = getUser();
+
+        // Mocking behavior
+        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(user));
+
+        // When
+        UserDetails first = userDetailsService.loadUserByUsername(USER_EMAIL);
+        UserDetails second = userDetailsService.loadUserByUsername(USER_EMAIL.toUpperCase());
+
+        // Then
+        assertSame(user, first);
+        assertSame(user, second);
+        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("Load user after it changed, queries DB again")
+    void loadUserByUsername_AfterUserChanged_ReloadsUser() {
+        // Mocking behavior
+        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(getUser()));
+
+        // When
+        userDetailsService.loadUserByUsername(USER_EMAIL);
+        userDetailsService.onUserChanged(new UserChangedEvent(USER_EMAIL));
+        userDetailsService.loadUserByUsername(USER_EMAIL);
+
+        // Then
+        verify(userRepository, times(2)).findByEmail(USER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("Update password on rehash, stores new hash and reloads user")
+    void updatePassword_NewHash_UpdatesAndReloadsUser() {
+        // Given
+        User user = getUser();
+        String newPassword = "$2a$12$rehashed";
+        User updated = getUser();
+        updated.setPassword(newPassword);
+
+        // Mocking behavior
+        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(user),
+                Optional.of(updated));
+
+        // When
+        userDetailsService.loadUserByUsername(USER_EMAIL);
+        UserDetails actual = userDetailsService.updatePassword(user, newPassword);
+
+        // Then
+        assertEquals(newPassword, actual.getPassword());
+        verify(userRepository).updatePasswordByEmail(USER_EMAIL, newPassword);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(USER_EMAIL));
+    }
+
+    @Test
+    @DisplayName("Load non-existing user, throws exception and caches nothing")
+    void loadUserByUsername_NonExistingUser_ThrowsException() {
+        // Mocking behavior
+        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.empty());
+
+        // When
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername(USER_EMAIL));
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername(USER_EMAIL));
+
+        // Then
+        verify(userRepository, times(2)).findByEmail(USER_EMAIL);
+    }
+}
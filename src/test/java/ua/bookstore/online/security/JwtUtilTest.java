@@ -0,0 +1,114 @@
+package ua.bookstore.online.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.USER_EMAIL;
+import static ua.bookstore.online.utils.TestDataUtils.getUser;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.model.RoleName;
+
+class JwtUtilTest {
+    private static final String SECRET = "itIsVeryLongTestSecretStringForJwtSecretKey";
+    private ExpiringCache<String, VerifiedToken> verifiedTokenCache;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void beforeEach() {
+        verifiedTokenCache = new ExpiringCache<>("verifiedToken", 10, Duration.ofMinutes(5));
+        jwtUtil = new JwtUtil(SECRET, verifiedTokenCache);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 10000L);
+    }
+
+    @Test
+    @DisplayName("Verify the same token twice, parses it once and serves it from the cache")
+    void verify_SameTokenTwice_ParsesOnce() {
+        // Given
+        String token = jwtUtil.generateToken(getUser());
+
+        // When
+        VerifiedToken first = jwtUtil.verify(token).orElseThrow();
+        VerifiedToken second = jwtUtil.verify(token).orElseThrow();
+
+        // Then
+        assertEquals(USER_EMAIL, first.subject());
+        assertEquals(first, second);
+        assertEquals(1, verifiedTokenCache.size());
+        assertEquals(1, verifiedTokenCache.getStats().hits());
+    }
+
+    @Test
+    @DisplayName("Verify token, returns user id and role names from claims")
+    void verify_GeneratedToken_ReturnsUserClaims() {
+        // Given
+        String token = jwtUtil.generateToken(getUser());
+
+        // When
+        VerifiedToken actual = jwtUtil.verify(token).orElseThrow();
+
+        // Then
+        assertTrue(actual.hasUserClaims());
+        assertNotNull(actual.tokenId());
+        assertEquals(ID_1, actual.userId());
+        assertEquals(List.of(RoleName.ROLE_USER.name()), actual.roles());
+    }
+
+    @Test
+    @DisplayName("Verify token issued before user claims, returns subject without user claims")
+    void verify_TokenWithoutUserClaims_ReturnsSubjectOnly() {
+        // Given
+        String token = Jwts.builder()
+                           .subject(USER_EMAIL)
+                           .expiration(new Date(System.currentTimeMillis() + 10000))
+                           .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                           .compact();
+
+        // When
+        VerifiedToken actual = jwtUtil.verify(token).orElseThrow();
+
+        // Then
+        assertEquals(USER_EMAIL, actual.subject());
+        assertFalse(actual.hasUserClaims());
+    }
+
+    @Test
+    @DisplayName("Verify token with broken signature, throws exception and caches nothing")
+    void verify_TamperedToken_ThrowsException() {
+        // Given
+        String token = jwtUtil.generateToken(getUser());
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+
+        // Then
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("Verify missing token, returns empty optional")
+    void verify_NullToken_ReturnsEmpty() {
+        // When
+        Optional<VerifiedToken> actual = jwtUtil.verify(null);
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+}
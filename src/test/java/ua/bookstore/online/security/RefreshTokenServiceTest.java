@@ -0,0 +1,105 @@
+package ua.bookstore.online.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.getUser;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ua.bookstore.online.exception.InvalidRefreshTokenException;
+import ua.bookstore.online.model.RefreshToken;
+import ua.bookstore.online.model.User;
+import ua.bookstore.online.repository.token.RefreshTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+    private static final String TOKEN = "opaqueRefreshToken";
+    private static final String FAMILY_ID = "family";
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void beforeEach() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Issue token, stores only its hash")
+    void issue_User_StoresHashedToken() {
+        // When
+        String actual = refreshTokenService.issue(getUser());
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals(TokenDigests.sha256(actual), captor.getValue().getTokenHash());
+        assertNotEquals(actual, captor.getValue().getTokenHash());
+    }
+
+    @Test
+    @DisplayName("Rotate valid token, marks it used and issues a new one in the same family")
+    void rotate_ValidToken_IssuesTokenInSameFamily() {
+        // Given
+        RefreshToken refreshToken = getRefreshToken(false);
+
+        // Mocking behavior
+        when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(TOKEN)))
+                .thenReturn(Optional.of(refreshToken));
+        when(refreshTokenRepository.markUsed(ID_1)).thenReturn(1);
+
+        // When
+        IssuedRefreshToken actual = refreshTokenService.rotate(TOKEN);
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals(FAMILY_ID, captor.getValue().getFamilyId());
+        assertEquals(TokenDigests.sha256(actual.token()), captor.getValue().getTokenHash());
+        assertSame(refreshToken.getUser(), actual.user());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("Rotate already used token, revokes the whole family and throws exception")
+    void rotate_UsedToken_RevokesFamily() {
+        // Mocking behavior
+        when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(TOKEN)))
+                .thenReturn(Optional.of(getRefreshToken(true)));
+
+        // When
+        assertThrows(InvalidRefreshTokenException.class,
+                () -> refreshTokenService.rotate(TOKEN));
+
+        // Then
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    private static RefreshToken getRefreshToken(boolean used) {
+        User user = getUser();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setId(ID_1);
+        refreshToken.setTokenHash(TokenDigests.sha256(TOKEN));
+        refreshToken.setFamilyId(FAMILY_ID);
+        refreshToken.setUser(user);
+        refreshToken.setExpiresAt(LocalDateTime.now().plusDays(1));
+        refreshToken.setUsed(used);
+        return refreshToken;
+    }
+}
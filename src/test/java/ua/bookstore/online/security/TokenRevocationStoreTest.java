@@ -0,0 +1,180 @@
+package ua.bookstore.online.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+import static ua.bookstore.online.utils.TestDataUtils.USER_EMAIL;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import ua.bookstore.online.event.TokenRevokedEvent;
+import ua.bookstore.online.event.UserTokensRevokedEvent;
+import ua.bookstore.online.model.RevokedToken;
+import ua.bookstore.online.model.UserTokenRevocation;
+import ua.bookstore.online.repository.token.RevokedTokenRepository;
+import ua.bookstore.online.repository.token.UserTokenRevocationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+    private static final String TOKEN_ID = "4c5e8a8e-8f3a-4d0e-9f55-3c1b1e2b7a10";
+    private static final String OTHER_TOKEN_ID = "9a1d2c3b-5e6f-4a7b-8c9d-0e1f2a3b4c5d";
+    private static final Duration LIFETIME = Duration.ofMinutes(5);
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private UserTokenRevocationRepository userTokenRevocationRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private MutableClock clock;
+    private TokenRevocationStore tokenRevocationStore;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = new MutableClock();
+        tokenRevocationStore = new TokenRevocationStore(revokedTokenRepository,
+                userTokenRevocationRepository, eventPublisher, LIFETIME, clock);
+    }
+
+    @Test
+    @DisplayName("Revoke token, persists it and applies it after commit until the token expires")
+    void revoke_Token_RevokedUntilExpiry() {
+        // Given
+        Instant expiresAt = clock.instant().plus(LIFETIME);
+
+        // Mocking behavior
+        when(revokedTokenRepository.findAllByExpiresAtAfter(any())).thenReturn(List.of());
+
+        // When
+        tokenRevocationStore.revoke(TOKEN_ID, expiresAt);
+
+        // Then
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        verify(eventPublisher).publishEvent(new TokenRevokedEvent(TOKEN_ID, expiresAt));
+        assertFalse(tokenRevocationStore.isRevoked(TOKEN_ID));
+        tokenRevocationStore.onTokenRevoked(new TokenRevokedEvent(TOKEN_ID, expiresAt));
+        assertTrue(tokenRevocationStore.isRevoked(TOKEN_ID));
+        clock.advance(LIFETIME);
+        tokenRevocationStore.poll();
+        assertFalse(tokenRevocationStore.isRevoked(TOKEN_ID));
+        assertEquals(0, tokenRevocationStore.size());
+    }
+
+    @Test
+    @DisplayName("Revoke already expired token, stores nothing")
+    void revoke_ExpiredToken_Ignored() {
+        // When
+        tokenRevocationStore.revoke(TOKEN_ID, clock.instant());
+
+        // Then
+        assertFalse(tokenRevocationStore.isRevoked(TOKEN_ID));
+        verify(revokedTokenRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Poll revocations from other nodes, picks up rows committed out of id order")
+    void poll_RevocationCommittedLate_LoadedOnNextPoll() {
+        // Given
+        RevokedToken committedFirst = getRevokedToken(ID_2, OTHER_TOKEN_ID);
+        RevokedToken committedLate = getRevokedToken(ID_1, TOKEN_ID);
+
+        // Mocking behavior
+        when(revokedTokenRepository.findAllByExpiresAtAfter(any()))
+                .thenReturn(List.of(committedFirst), List.of(committedLate, committedFirst));
+
+        // When
+        tokenRevocationStore.poll();
+        tokenRevocationStore.poll();
+
+        // Then
+        assertTrue(tokenRevocationStore.isRevoked(TOKEN_ID));
+        assertTrue(tokenRevocationStore.isRevoked(OTHER_TOKEN_ID));
+        assertEquals(2, tokenRevocationStore.size());
+    }
+
+    @Test
+    @DisplayName("Revoke user, revokes tokens issued until now and not the ones issued later")
+    void revokeUser_TokensIssuedBeforeAndAfter_RevokesOnlyEarlierTokens() {
+        // Given
+        clock.advance(Duration.ofMillis(1500));
+        Instant revokedBefore = Instant.ofEpochSecond(1);
+        Instant expiresAt = clock.instant().plus(LIFETIME);
+        VerifiedToken sameSecondToken = getVerifiedToken(TOKEN_ID, revokedBefore);
+        VerifiedToken laterToken = getVerifiedToken(OTHER_TOKEN_ID, revokedBefore.plusSeconds(1));
+
+        // Mocking behavior
+        when(revokedTokenRepository.findAllByExpiresAtAfter(any())).thenReturn(List.of());
+        when(userTokenRevocationRepository.findAllByExpiresAtAfter(any())).thenReturn(List.of());
+
+        // When
+        tokenRevocationStore.revokeUser(ID_1);
+
+        // Then
+        verify(userTokenRevocationRepository).save(any(UserTokenRevocation.class));
+        UserTokensRevokedEvent event = new UserTokensRevokedEvent(ID_1, revokedBefore, expiresAt);
+        verify(eventPublisher).publishEvent(event);
+        assertFalse(tokenRevocationStore.isRevoked(sameSecondToken));
+        tokenRevocationStore.onUserTokensRevoked(event);
+        assertTrue(tokenRevocationStore.isRevoked(sameSecondToken));
+        assertFalse(tokenRevocationStore.isRevoked(laterToken));
+        clock.advance(LIFETIME);
+        tokenRevocationStore.poll();
+        assertFalse(tokenRevocationStore.isRevoked(sameSecondToken));
+    }
+
+    private VerifiedToken getVerifiedToken(String tokenId, Instant issuedAt) {
+        return new VerifiedToken(tokenId, USER_EMAIL, ID_1, List.of("ROLE_USER"), issuedAt,
+                issuedAt.plus(LIFETIME));
+    }
+
+    private RevokedToken getRevokedToken(Long id, String tokenId) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setId(id);
+        revokedToken.setTokenId(tokenId);
+        revokedToken.setExpiresAt(LocalDateTime.ofInstant(clock.instant().plus(LIFETIME),
+                ZoneOffset.UTC));
+        return revokedToken;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ua.bookstore.online.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static ua.bookstore.online.utils.TestDataUtils.AUTHOR_MELVILLE;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+import static ua.bookstore.online.utils.TestDataUtils.ID_3;
+import static ua.bookstore.online.utils.TestDataUtils.ISBN_MELVILLE;
+import static ua.bookstore.online.utils.TestDataUtils.PRICE_MELVILLE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ua.bookstore.online.dto.book.BookDto;
+import ua.bookstore.online.dto.book.BookExportFormat;
+import ua.bookstore.online.repository.book.BookExportRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookExportServiceImplTest {
+    @Mock
+    private BookExportRepository bookExportRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BookExportServiceImpl bookExportService;
+
+    @BeforeEach
+    void beforeEach() {
+        bookExportService = new BookExportServiceImpl(bookExportRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Export books as CSV, writes header and escaped row per book")
+    void export_Csv_WritesEscapedRows() throws Exception {
+        // Given
+        BookDto book = getMelvilleWithCategories();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String expected = "id,title,author,isbn,price,description,cover_image,category_ids\n"
+                + "2,\"Moby-Dick, or \"\"The Whale\"\"\",Herman Melville,9781503280781,"
+                + "14.99,,,1;3\n";
+
+        // Mocking behavior
+        mockingExportedBooks(book);
+
+        // When
+        bookExportService.export(BookExportFormat.CSV, outputStream);
+
+        // Then
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Export books as NDJSON, writes one JSON document per line")
+    void export_Ndjson_WritesJsonLines() throws Exception {
+        // Given
+        BookDto book = getMelvilleWithCategories();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Mocking behavior
+        mockingExportedBooks(book, book);
+
+        // When
+        bookExportService.export(BookExportFormat.NDJSON, outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(book, objectMapper.readValue(lines[0], BookDto.class));
+    }
+
+    private void mockingExportedBooks(BookDto... books) {
+        doAnswer(invocation -> {
+            Consumer<BookDto> consumer = invocation.getArgument(0);
+            List.of(books).forEach(consumer);
+            return null;
+        }).when(bookExportRepository).forEachBook(any());
+    }
+
+    private BookDto getMelvilleWithCategories() {
+        return BookDto.builder()
+                      .id(ID_2)
+                      .title("Moby-Dick, or \"The Whale\"")
+                      .author(AUTHOR_MELVILLE)
+                      .isbn(ISBN_MELVILLE)
+                      .price(PRICE_MELVILLE)
+                      .categoryIds(new LinkedHashSet<>(List.of(ID_1, ID_3)))
+                      .build();
+    }
+}
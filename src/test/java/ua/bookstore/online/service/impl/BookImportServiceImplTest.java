@@ -0,0 +1,113 @@
+package ua.bookstore.online.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.bookstore.online.dto.book.BookImportErrorDto;
+import ua.bookstore.online.dto.book.BookImportResultDto;
+import ua.bookstore.online.dto.book.CreateBookRequestDto;
+import ua.bookstore.online.event.BooksImportedEvent;
+import ua.bookstore.online.repository.book.BookImportRepository;
+import ua.bookstore.online.service.CategoryService;
+
+@ExtendWith(MockitoExtension.class)
+class BookImportServiceImplTest {
+    private static final int BATCH_SIZE = 2;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Validator validator =
+            Validation.buildDefaultValidatorFactory().getValidator();
+    @Mock
+    private BookImportRepository bookImportRepository;
+    @Mock
+    private CategoryService categoryService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private BookImportServiceImpl bookImportService;
+
+    @BeforeEach
+    void beforeEach() {
+        bookImportService = new BookImportServiceImpl(bookImportRepository, categoryService,
+                objectMapper, validator, transactionTemplate, eventPublisher, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Import books, saves valid books in batches and reports rejected lines")
+    void importBooks_MixedLines_SavesValidBooksAndReportsErrors() throws Exception {
+        // Given
+        CreateBookRequestDto first = getRequest("First", "111", ID_1);
+        CreateBookRequestDto existing = getRequest("Existing", "222", ID_1);
+        CreateBookRequestDto last = getRequest("Last", "333", ID_2);
+        String content = String.join("\n",
+                toJson(first),
+                "{",
+                toJson(getRequest(" ", "444", ID_1)),
+                toJson(getRequest("Unknown category", "555", 9L)),
+                toJson(getRequest("Duplicate", "111", ID_1)),
+                toJson(existing),
+                "",
+                toJson(last));
+
+        // Mocking behavior
+        when(categoryService.getAllCategoryIds()).thenReturn(Set.of(ID_1, ID_2));
+        when(bookImportRepository.findExistingIsbns(List.of("111", "222")))
+                .thenReturn(List.of("222"));
+        when(bookImportRepository.findExistingIsbns(List.of("333"))).thenReturn(List.of());
+        when(bookImportRepository.saveAll(List.of(first))).thenReturn(List.of(10L));
+        when(bookImportRepository.saveAll(List.of(last))).thenReturn(List.of(11L));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // When
+        BookImportResultDto actual = bookImportService.importBooks(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertEquals(2, actual.imported());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), actual.errors().stream()
+                                                        .map(BookImportErrorDto::line)
+                                                        .toList());
+        assertTrue(actual.errors().get(1).error().startsWith("title "));
+        assertEquals("Can't find categories with ids: [9]", actual.errors().get(2).error());
+        assertEquals("Non uniq ISBN: 222", actual.errors().get(4).error());
+        verify(eventPublisher, times(2)).publishEvent(any(BooksImportedEvent.class));
+    }
+
+    private CreateBookRequestDto getRequest(String title, String isbn, Long categoryId) {
+        return CreateBookRequestDto.builder()
+                                   .title(title)
+                                   .author("Author")
+                                   .isbn(isbn)
+                                   .price(new BigDecimal("12.99"))
+                                   .categoryIds(Set.of(categoryId))
+                                   .build();
+    }
+
+    private String toJson(CreateBookRequestDto book) throws Exception {
+        return objectMapper.writeValueAsString(book);
+    }
+}
@@ -2,27 +2,42 @@ package ua.bookstore.online.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static ua.bookstore.online.utils.TestDataUtils.AUTHOR_ORWELL;
 import static ua.bookstore.online.utils.TestDataUtils.CATEGORY_IDS;
 import static ua.bookstore.online.utils.TestDataUtils.ID_1;
+import static ua.bookstore.online.utils.TestDataUtils.ID_2;
+import static ua.bookstore.online.utils.TestDataUtils.ID_3;
 import static ua.bookstore.online.utils.TestDataUtils.ISBN_ORWELL;
+import static ua.bookstore.online.utils.TestDataUtils.NON_EXISTING_ID;
 import static ua.bookstore.online.utils.TestDataUtils.PRICE_ORWELL;
 import static ua.bookstore.online.utils.TestDataUtils.TITLE_1984;
 import static ua.bookstore.online.utils.TestDataUtils.createBook;
 import static ua.bookstore.online.utils.TestDataUtils.createBookRequestDto;
 import static ua.bookstore.online.utils.TestDataUtils.getBookDto;
+import static ua.bookstore.online.utils.TestDataUtils.getMalvillBook;
+import static ua.bookstore.online.utils.TestDataUtils.getMelville;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwell;
+import static ua.bookstore.online.utils.TestDataUtils.getOrwellBook;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,20 +45,44 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
+import ua.bookstore.online.cache.BookSearchCache;
+import ua.bookstore.online.cache.CatalogSnapshot;
+import ua.bookstore.online.cache.CatalogSnapshotHolder;
+import ua.bookstore.online.cache.CatalogVersions;
+import ua.bookstore.online.cache.ExpiringCache;
+import ua.bookstore.online.dto.book.BookBatchDto;
+import ua.bookstore.online.dto.book.BookCursorPageDto;
 import ua.bookstore.online.dto.book.BookDto;
 import ua.bookstore.online.dto.book.BookDtoWithoutCategoryIds;
+import ua.bookstore.online.dto.book.BookFacetedSearchDto;
+import ua.bookstore.online.dto.book.BookFacetsDto;
+import ua.bookstore.online.dto.book.BookSearchResultDto;
+import ua.bookstore.online.dto.book.BookSuggestionDto;
 import ua.bookstore.online.dto.book.CreateBookRequestDto;
+import ua.bookstore.online.dto.book.SuggestionType;
+import ua.bookstore.online.dto.search.parameters.BookSearchParameters;
+import ua.bookstore.online.event.BookDeletedEvent;
 import ua.bookstore.online.exception.EntityNotFoundException;
+import ua.bookstore.online.exception.InvalidCursorException;
 import ua.bookstore.online.exception.UniqueIsbnException;
 import ua.bookstore.online.mapper.BookMapper;
 import ua.bookstore.online.model.Book;
+import ua.bookstore.online.monitoring.BookSearchMonitor;
+import ua.bookstore.online.repository.ResourceVersion;
+import ua.bookstore.online.repository.book.BookCursor;
 import ua.bookstore.online.repository.book.BookRepository;
+import ua.bookstore.online.repository.book.BookSearchJdbcRepository;
+import ua.bookstore.online.repository.book.BookSearchKey;
+import ua.bookstore.online.repository.book.BookSearchParameter;
 import ua.bookstore.online.repository.book.BookSpecificationBuilder;
+import ua.bookstore.online.repository.book.index.BookSearchIndex;
+import ua.bookstore.online.repository.book.index.IdBitmap;
 import ua.bookstore.online.service.CategoryService;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +97,22 @@ class BookServiceImplTest {
     private CategoryService categoryService;
     @Mock
     private BookSpecificationBuilder bookSpecificationBuilder;
+    @Mock
+    private ExpiringCache<BookSearchKey, Long> bookSearchCountCache;
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+    @Mock
+    private BookSearchCache bookSearchCache;
+    @Mock
+    private BookSearchJdbcRepository bookSearchJdbcRepository;
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    @Mock
+    private CatalogVersions catalogVersions;
+    @Mock
+    private BookSearchMonitor bookSearchMonitor;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @AfterEach
     void afterEach() {
@@ -126,10 +181,12 @@ class BookServiceImplTest {
     @DisplayName("Get all books from repository, returns list of BookDto")
     void getAll_ReturnsAllBooksFromDb() {
         // Given
-        List<Book> booksFromRepository = List.of(createBook(), createBook());
+        List<Book> booksFromRepository = List.of(getOrwellBook(), getMalvillBook());
+        List<Long> ids = List.of(ID_1, ID_2);
 
         // Mocking behavior
-        when(bookRepository.findAllBooks(any(Pageable.class))).thenReturn(booksFromRepository);
+        when(bookRepository.findAllIds(any(Pageable.class))).thenReturn(ids);
+        when(bookRepository.findAllWithCategoriesByIdIn(ids)).thenReturn(booksFromRepository);
         when(bookMapper.toDto(any(Book.class))).thenReturn(getBookDto(createBook()));
 
         // When
@@ -139,6 +196,99 @@ class BookServiceImplTest {
         assertEquals(booksFromRepository.size(), result.size());
     }
 
+    @Test
+    @DisplayName("Get all books, keeps the order of selected ids")
+    void getAll_BooksFetchedInOtherOrder_ReturnsBooksInIdsOrder() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 5, Sort.by("price"));
+        List<Long> ids = List.of(ID_2, ID_1);
+        Book orwell = getOrwellBook();
+        Book melville = getMalvillBook();
+
+        // Mocking behavior
+        when(bookRepository.findAllIds(PageRequest.of(0, 5, Sort.by("price", "id"))))
+                .thenReturn(ids);
+        when(bookRepository.findAllWithCategoriesByIdIn(ids)).thenReturn(List.of(orwell, melville));
+        when(bookMapper.toDto(orwell)).thenReturn(getBookDto(orwell));
+        when(bookMapper.toDto(melville)).thenReturn(getBookDto(melville));
+
+        // When
+        List<BookDto> result = bookService.getAll(pageable);
+
+        // Then
+        assertEquals(List.of(ID_2, ID_1), result.stream().map(BookDto::id).toList());
+    }
+
+    @Test
+    @DisplayName("Get all books for empty page, doesn't fetch books")
+    void getAll_EmptyPageOfIds_ReturnsEmptyList() {
+        // Mocking behavior
+        when(bookRepository.findAllIds(any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        List<BookDto> result = bookService.getAll(Pageable.unpaged());
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get books by cursor with next page, returns page with next cursor")
+    void getAllByCursor_MoreBooksThanPageSize_ReturnsPageWithNextCursor() {
+        // Given
+        int size = 2;
+        Book orwell = getOrwellBook();
+        Book melville = getMalvillBook();
+
+        // Mocking behavior
+        when(bookRepository.findIds(any(), eq(PageRequest.of(0, size + 1, BookCursor.SORT))))
+                .thenReturn(List.of(ID_1, ID_2, ID_3));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(ID_1, ID_2)))
+                .thenReturn(List.of(orwell, melville));
+        when(bookMapper.toDto(any(Book.class))).thenReturn(getBookDto(createBook()));
+
+        // When
+        BookCursorPageDto actual = bookService.getAllByCursor(null, size);
+
+        // Then
+        assertEquals(size, actual.books().size());
+        assertEquals(BookCursor.of(melville).encode(), actual.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Get last page of books by cursor, returns page without next cursor")
+    void getAllByCursor_LastPage_ReturnsPageWithoutNextCursor() {
+        // Given
+        int size = 2;
+        BookCursor cursor = BookCursor.of(getOrwellBook());
+        Book melville = getMalvillBook();
+
+        // Mocking behavior
+        when(bookSpecificationBuilder.after(cursor)).thenReturn(Specification.where(null));
+        when(bookRepository.findIds(any(), any(Pageable.class))).thenReturn(List.of(ID_2));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(ID_2)))
+                .thenReturn(List.of(melville));
+        when(bookMapper.toDto(melville)).thenReturn(getBookDto(melville));
+
+        // When
+        BookCursorPageDto actual = bookService.getAllByCursor(cursor.encode(), size);
+
+        // Then
+        assertEquals(1, actual.books().size());
+        assertNull(actual.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Get books by malformed cursor, throws exception")
+    void getAllByCursor_MalformedCursor_ThrowsException() {
+        // When
+        Exception actual = assertThrows(InvalidCursorException.class,
+                () -> bookService.getAllByCursor("not a cursor", 2));
+
+        // Then
+        assertEquals("Invalid cursor: not a cursor", actual.getMessage());
+    }
+
     @Test
     @DisplayName("Get existing book from DB, returns BookDto")
     void getById_ExistingId_ReturnsBookDto() {
@@ -174,26 +324,334 @@ class BookServiceImplTest {
         assertEquals("Book not found by id " + ID_1, actual.getMessage());
     }
 
+    @Test
+    @DisplayName("Get existing book while snapshot is loaded, returns BookDto without DB call")
+    void getById_SnapshotLoaded_ReturnsBookDtoFromSnapshot() {
+        // Given
+        BookDto orwell = getOrwell();
+        CatalogSnapshot snapshot = CatalogSnapshot.builder().saveBook(orwell).build();
+
+        // Mocking behavior
+        when(catalogSnapshotHolder.getSnapshot()).thenReturn(Optional.of(snapshot));
+
+        // When
+        BookDto result = bookService.getById(orwell.id());
+
+        // Then
+        assertEquals(orwell, result);
+    }
+
+    @Test
+    @DisplayName("Get non-existing book while snapshot is loaded, throws exception")
+    void getById_SnapshotLoadedNonExistingId_ThrowsException() {
+        // Mocking behavior
+        when(catalogSnapshotHolder.getSnapshot()).thenReturn(
+                Optional.of(CatalogSnapshot.builder().build()));
+
+        // When
+        Exception actual = assertThrows(EntityNotFoundException.class,
+                () -> bookService.getById(NON_EXISTING_ID));
+
+        // Then
+        assertEquals("Book not found by id " + NON_EXISTING_ID, actual.getMessage());
+    }
+
+    @Test
+    @DisplayName("Get ETag of existing book, returns quoted version of last update")
+    void getETag_ExistingId_ReturnsStrongETag() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 4, 1, 10, 0);
+
+        // Mocking behavior
+        when(bookRepository.findUpdatedAtById(ID_1)).thenReturn(Optional.of(updatedAt));
+
+        // When
+        String actual = bookService.getETag(ID_1);
+
+        // Then
+        assertEquals(new ResourceVersion(updatedAt).toETag(), actual);
+        assertTrue(actual.startsWith("\"") && actual.endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("Get ETag of non-existing book, throws exception")
+    void getETag_NonExistingId_ThrowsException() {
+        // Mocking behavior
+        when(bookRepository.findUpdatedAtById(NON_EXISTING_ID)).thenReturn(Optional.empty());
+
+        // When
+        Exception actual = assertThrows(EntityNotFoundException.class,
+                () -> bookService.getETag(NON_EXISTING_ID));
+
+        // Then
+        assertEquals("Book not found by id " + NON_EXISTING_ID, actual.getMessage());
+    }
+
+    @Test
+    @DisplayName("Get ETag of existing book while snapshot is loaded, returns snapshot version "
+            + "without DB call")
+    void getETag_SnapshotLoaded_ReturnsSnapshotETag() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.builder().saveBook(getOrwell()).build();
+        String expected = "\"1-s0\"";
+
+        // Mocking behavior
+        when(catalogSnapshotHolder.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(catalogVersions.getSnapshotETag(snapshot)).thenReturn(expected);
+
+        // When
+        String actual = bookService.getETag(getOrwell().id());
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Get books by ids, returns books in requested order and missing ids")
+    void getByIds_SomeMissingIds_ReturnsFoundBooksAndMissingIds() {
+        // Given
+        Book orwell = getOrwellBook();
+        Book melville = getMalvillBook();
+        List<Long> ids = List.of(ID_2, NON_EXISTING_ID, ID_1, ID_2);
+        List<Long> distinctIds = List.of(ID_2, NON_EXISTING_ID, ID_1);
+
+        // Mocking behavior
+        when(bookRepository.findAllWithCategoriesByIdIn(distinctIds))
+                .thenReturn(List.of(orwell, melville));
+        when(bookMapper.toDto(orwell)).thenReturn(getBookDto(orwell));
+        when(bookMapper.toDto(melville)).thenReturn(getBookDto(melville));
+
+        // When
+        BookBatchDto actual = bookService.getByIds(ids);
+
+        // Then
+        assertEquals(List.of(getBookDto(melville), getBookDto(orwell)), actual.books());
+        assertEquals(List.of(NON_EXISTING_ID), actual.missingIds());
+    }
+
     @Test
     @DisplayName("Get by parameter, returns filtered list of BookDto")
     void getByParameters_GetListOfBooks_ReturnsFilteredBookDtos() {
         // Given
         Pageable pageable = Pageable.unpaged();
         Specification<Book> specification = Specification.where(null);
+        List<Long> ids = List.of(ID_1, ID_2);
+        List<Book> booksFromRepository = List.of(getOrwellBook(), getMalvillBook());
+
+        // Mocking behavior
+        mockingSearchCache();
+        when(bookSpecificationBuilder.build(any())).thenReturn(specification);
+        when(bookRepository.findIds(specification, pageable)).thenReturn(ids);
+        when(bookRepository.findAllWithCategoriesByIdIn(ids)).thenReturn(booksFromRepository);
+        when(bookMapper.toDto(any(Book.class))).thenReturn(getBookDto(createBook()));
 
-        Page<Book> booksFromRepository = new PageImpl<>(List.of(createBook(), createBook()));
+        // When
+        List<BookDto> actual = bookService.getByParameters(null, pageable);
+
+        // Then
+        assertEquals(booksFromRepository.size(), actual.size());
+    }
+
+    @Test
+    @DisplayName("Get by indexed parameter, narrows query to index candidates")
+    void getByParameters_IndexedParameter_QueriesOnlyCandidates() {
+        // Given
+        Pageable pageable = Pageable.unpaged();
+        BookSearchParameters parameters =
+                new BookSearchParameters(new String[]{"198"}, null, null, null, null, null, null,
+                        null);
+        IdBitmap candidates = IdBitmap.of(ID_1.intValue());
+        Set<BookSearchParameter> indexedParameters = Set.of(BookSearchParameter.TITLE);
+        Specification<Book> specification = Specification.where(null);
+        Specification<Book> candidatesSpecification = Specification.where(null);
+        List<Long> ids = List.of(ID_1);
 
         // Mocking behavior
+        mockingSearchCache();
+        when(bookSearchIndex.findSqlCandidates(parameters)).thenReturn(Optional.of(candidates));
+        when(bookSearchIndex.getIndexedParameters()).thenReturn(indexedParameters);
+        when(bookSpecificationBuilder.build(parameters, indexedParameters))
+                .thenReturn(specification);
+        when(bookSpecificationBuilder.idIn(candidates)).thenReturn(candidatesSpecification);
+        when(bookRepository.findIds(any(), eq(pageable))).thenReturn(ids);
+        when(bookRepository.findAllWithCategoriesByIdIn(ids)).thenReturn(List.of(getOrwellBook()));
+        when(bookMapper.toDto(any(Book.class))).thenReturn(getBookDto(createBook()));
+
+        // When
+        List<BookDto> actual = bookService.getByParameters(parameters, pageable);
+
+        // Then
+        assertEquals(1, actual.size());
+        verify(bookSpecificationBuilder).build(parameters, indexedParameters);
+        verify(bookSpecificationBuilder).idIn(candidates);
+    }
+
+    @Test
+    @DisplayName("Get by parameters ordered by price, takes page of ids from index")
+    void getByParameters_OrderedByPrice_TakesIdsFromIndex() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("price"));
+        BookSearchParameters parameters =
+                new BookSearchParameters(null, null, null, null, 10L, null, null, null);
+        List<Long> ids = List.of(ID_1, ID_2);
+
+        // Mocking behavior
+        mockingSearchCache();
+        when(bookSearchIndex.findIndexOrderedIds(parameters, Sort.by("price", "id"), 0, 2))
+                .thenReturn(Optional.of(ids));
+        when(bookRepository.findAllWithCategoriesByIdIn(ids))
+                .thenReturn(List.of(getMalvillBook(), getOrwellBook()));
+        when(bookMapper.toDto(any(Book.class))).thenReturn(getBookDto(createBook()));
+
+        // When
+        List<BookDto> actual = bookService.getByParameters(parameters, pageable);
+
+        // Then
+        assertEquals(ids.size(), actual.size());
+        verifyNoInteractions(bookSpecificationBuilder);
+    }
+
+    @Test
+    @DisplayName("Get by parameters with facets, returns page and facets from index")
+    void getByParametersWithFacets_IndexReady_ReturnsBooksWithFacets() {
+        // Given
+        Pageable pageable = Pageable.unpaged();
+        Specification<Book> specification = Specification.where(null);
+        List<Long> ids = List.of(ID_1);
+        BookFacetsDto facets = new BookFacetsDto(Map.of(ID_1, 1L), List.of());
+
+        // Mocking behavior
+        mockingSearchCache();
         when(bookSpecificationBuilder.build(any())).thenReturn(specification);
-        when(bookRepository.findAll(specification, pageable)).thenReturn(
-                booksFromRepository);
+        when(bookRepository.findIds(specification, pageable)).thenReturn(ids);
+        when(bookRepository.findAllWithCategoriesByIdIn(ids)).thenReturn(List.of(getOrwellBook()));
         when(bookMapper.toDto(any(Book.class))).thenReturn(getBookDto(createBook()));
+        when(bookSearchIndex.countFacets(any())).thenReturn(Optional.of(facets));
+
+        // When
+        BookFacetedSearchDto actual = bookService.getByParametersWithFacets(null, pageable);
+
+        // Then
+        assertEquals(1, actual.books().size());
+        assertEquals(facets, actual.facets());
+    }
+
+    @Test
+    @DisplayName("Get ranked books, returns books in order of relevance")
+    void getRanked_Query_ReturnsBooksInRankOrder() {
+        // Given
+        List<Long> ids = List.of(ID_2, ID_1);
+
+        // Mocking behavior
+        when(bookSearchIndex.rank("whale", 5)).thenReturn(ids);
+        when(bookRepository.findAllWithCategoriesByIdIn(ids))
+                .thenReturn(List.of(getOrwellBook(), getMalvillBook()));
+        when(bookMapper.toDto(any(Book.class))).thenAnswer(invocation ->
+                ID_1.equals(invocation.<Book>getArgument(0).getId()) ? getOrwell() : getMelville());
 
         // When
-        List<BookDto> actual = bookService.getByParameters(any(), pageable);
+        List<BookDto> actual = bookService.getRanked("whale", 5);
 
         // Then
-        assertEquals(booksFromRepository.getSize(), actual.size());
+        assertEquals(List.of(getMelville(), getOrwell()), actual);
+    }
+
+    @Test
+    @DisplayName("Suggest by prefix, returns completions from index")
+    void suggest_Prefix_ReturnsCompletionsFromIndex() {
+        // Given
+        List<BookSuggestionDto> expected = List.of(
+                new BookSuggestionDto(AUTHOR_ORWELL, SuggestionType.AUTHOR, 1));
+
+        // Mocking behavior
+        when(bookSearchIndex.suggest("orw", 5)).thenReturn(expected);
+
+        // When
+        List<BookSuggestionDto> actual = bookService.suggest("orw", 5);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Get slice by parameters with next page, returns slice without total")
+    void getSliceByParameters_MoreBooksThanPageSize_ReturnsSliceWithNextPage() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("price"));
+        Specification<Book> specification = Specification.where(null);
+        Book orwell = getOrwellBook();
+
+        // Mocking behavior
+        when(bookSpecificationBuilder.build(any())).thenReturn(specification);
+        when(bookRepository.findIds(specification, Sort.by("price", "id"), 0, 2))
+                .thenReturn(List.of(ID_1, ID_2));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(ID_1))).thenReturn(List.of(orwell));
+        when(bookMapper.toDto(orwell)).thenReturn(getBookDto(orwell));
+
+        // When
+        BookSearchResultDto actual = bookService.getSliceByParameters(null, pageable, false);
+
+        // Then
+        assertEquals(1, actual.books().size());
+        assertTrue(actual.hasNext());
+        assertNull(actual.estimatedTotal());
+        verifyNoInteractions(bookSearchCountCache);
+    }
+
+    @Test
+    @DisplayName("Get last slice by parameters with total, returns slice with estimated total")
+    void getSliceByParameters_LastPageWithTotal_ReturnsSliceWithEstimatedTotal() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 1, Sort.by("price"));
+        Specification<Book> specification = Specification.where(null);
+        BookSearchParameters parameters =
+                new BookSearchParameters(new String[]{"Moby"}, null, null, null, null, null, null,
+                        null);
+        Book melville = getMalvillBook();
+        Long total = 2L;
+
+        // Mocking behavior
+        when(bookSpecificationBuilder.build(parameters)).thenReturn(specification);
+        when(bookRepository.findIds(specification, Sort.by("price", "id"), 1, 2))
+                .thenReturn(List.of(ID_2));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(ID_2)))
+                .thenReturn(List.of(melville));
+        when(bookMapper.toDto(melville)).thenReturn(getBookDto(melville));
+        when(bookSearchCountCache.get(eq(BookSearchKey.of(parameters)), any())).thenReturn(total);
+
+        // When
+        BookSearchResultDto actual = bookService.getSliceByParameters(parameters, pageable, true);
+
+        // Then
+        assertEquals(1, actual.books().size());
+        assertFalse(actual.hasNext());
+        assertEquals(total, actual.estimatedTotal());
+    }
+
+    @Test
+    @DisplayName("Get slice by parameters without index, takes ids from compiled SQL query")
+    void getSliceByParameters_IndexNotReady_TakesIdsFromCompiledQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("title"));
+        BookSearchParameters parameters =
+                new BookSearchParameters(new String[]{"Moby"}, null, null, null, null, null, null,
+                        null);
+        Book melville = getMalvillBook();
+
+        // Mocking behavior
+        when(bookSearchJdbcRepository.findIds(parameters, Sort.by("title", "id"), 0, 2))
+                .thenReturn(Optional.of(List.of(ID_2)));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(ID_2)))
+                .thenReturn(List.of(melville));
+        when(bookMapper.toDto(melville)).thenReturn(getBookDto(melville));
+
+        // When
+        BookSearchResultDto actual = bookService.getSliceByParameters(parameters, pageable, false);
+
+        // Then
+        assertEquals(1, actual.books().size());
+        assertFalse(actual.hasNext());
+        verifyNoInteractions(bookSpecificationBuilder);
     }
 
     @Test
@@ -284,6 +742,9 @@ class BookServiceImplTest {
 
         // When
         assertDoesNotThrow(() -> bookService.delete(ID_1));
+
+        // Then
+        verify(eventPublisher).publishEvent(new BookDeletedEvent(ID_1));
     }
 
     @Test
@@ -305,19 +766,23 @@ class BookServiceImplTest {
     void getByCategoryId_FindAllBooksByCategoryId_ReturnsBooksForExistingCategory() {
         // Given
         Pageable pageable = Pageable.unpaged();
-        List<Book> booksFromRepository = List.of(createBook(), createBook());
-
-        // Mocking behavior
-        when(bookRepository.findAllByCategories_Id(ID_1, pageable)).thenReturn(booksFromRepository);
-        when(bookMapper.toDtoWithoutCategories(any(Book.class))).thenReturn(
+        List<BookDtoWithoutCategoryIds> booksFromRepository = List.of(
                 new BookDtoWithoutCategoryIds(ID_1, TITLE_1984, AUTHOR_ORWELL, ISBN_ORWELL,
                         PRICE_ORWELL, null, null));
 
+        // Mocking behavior
+        when(bookRepository.findAllByCategoryId(ID_1, pageable)).thenReturn(booksFromRepository);
+
         // When
         List<BookDtoWithoutCategoryIds> result = bookService.getByCategoryId(ID_1, pageable);
 
         // Then
-        assertEquals(booksFromRepository.size(), result.size());
+        assertEquals(booksFromRepository, result);
+    }
+
+    private void mockingSearchCache() {
+        when(bookSearchCache.getPage(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<BookDto>>>getArgument(2).get());
     }
 
     private void mockingMapperMethods(Book book) {
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static ua.bookstore.online.utils.TestDataUtils.ID_1;
@@ -29,8 +30,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ua.bookstore.online.cache.CatalogSnapshot;
+import ua.bookstore.online.cache.CatalogSnapshotHolder;
+import ua.bookstore.online.cache.CatalogVersions;
 import ua.bookstore.online.dto.category.CategoryRequestDto;
 import ua.bookstore.online.dto.category.CategoryResponseDto;
 import ua.bookstore.online.exception.EntityNotFoundException;
@@ -46,6 +52,12 @@ class CategoryServiceImplTest {
     private CategoryRepository categoryRepository;
     @Mock
     private CategoryMapper categoryMapper;
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    @Mock
+    private CatalogVersions catalogVersions;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @AfterEach
     void afterEach() {
@@ -72,6 +84,27 @@ class CategoryServiceImplTest {
         assertEquals(categoriesFromDb.size(), actual.size());
     }
 
+    @Test
+    @DisplayName("Get all categories while snapshot is loaded, returns page without DB call")
+    void findAll_SnapshotLoaded_ReturnsCategoriesFromSnapshot() {
+        // Given
+        CategoryResponseDto first = new CategoryResponseDto(ID_1, "Fiction", null);
+        CategoryResponseDto second = new CategoryResponseDto(ID_2, "Drama", null);
+        CatalogSnapshot snapshot = CatalogSnapshot.builder()
+                                                  .saveCategory(first)
+                                                  .saveCategory(second)
+                                                  .build();
+
+        // Mocking behavior
+        when(catalogSnapshotHolder.getSnapshot()).thenReturn(Optional.of(snapshot));
+
+        // When
+        List<CategoryResponseDto> actual = categoryService.findAll(PageRequest.of(0, 1));
+
+        // Then
+        assertEquals(List.of(first), actual);
+    }
+
     @Test
     @DisplayName("Get existing category by id")
     void getById_ExistingCategory_ReturnsCategoryResponseDto() {
@@ -227,4 +260,37 @@ class CategoryServiceImplTest {
         // Then
         assertTrue(actual.isEmpty(), "Should be empty but was not");
     }
+
+    @Test
+    @DisplayName("Get all category IDs, returns IDs of every category")
+    void getAllCategoryIds_ExistingCategories_ReturnsAllIds() {
+        // Given
+        Set<Long> categoryIds = Set.of(ID_1, ID_2, ID_3);
+
+        // Mocking behavior
+        when(categoryRepository.findAllIds()).thenReturn(categoryIds);
+
+        // When
+        Set<Long> actual = categoryService.getAllCategoryIds();
+
+        // Then
+        assertEquals(categoryIds, actual);
+    }
+
+    @Test
+    @DisplayName("Get ETag of categories, returns in-memory version without querying DB")
+    void getCatalogETag_CategoriesVersion_ReturnsETagWithoutQuery() {
+        // Given
+        String expected = "\"1-2\"";
+
+        // Mocking behavior
+        when(catalogVersions.getCategoriesETag()).thenReturn(expected);
+
+        // When
+        String actual = categoryService.getCatalogETag();
+
+        // Then
+        assertEquals(expected, actual);
+        verifyNoInteractions(categoryRepository);
+    }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static ua.bookstore.online.utils.TestDataUtils.PASSWORD;
@@ -22,10 +23,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 import ua.bookstore.online.dto.user.UserRegistrationRequestDto;
 import ua.bookstore.online.dto.user.UserResponseDto;
+import ua.bookstore.online.event.UserChangedEvent;
 import ua.bookstore.online.exception.RegistrationException;
 import ua.bookstore.online.mapper.UserMapper;
 import ua.bookstore.online.model.RoleName;
@@ -45,6 +48,8 @@ class UserServiceImplTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @AfterEach
     void afterEach() {
@@ -75,6 +80,7 @@ class UserServiceImplTest {
         // Then
         assertNotNull(actual);
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
+        verify(eventPublisher).publishEvent(new UserChangedEvent(user.getEmail()));
     }
 
     @Test
@@ -1,3 +1,5 @@
+DELETE FROM revoked_tokens;
+DELETE FROM refresh_tokens;
 DELETE FROM cart_items;
 DELETE FROM shopping_carts;
 DELETE FROM order_items;